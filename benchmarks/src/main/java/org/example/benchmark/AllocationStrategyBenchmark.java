@@ -0,0 +1,71 @@
+package org.example.benchmark;
+
+import org.example.models.ParkingLot;
+import org.example.models.ParkingSlot;
+import org.example.models.vehicle.Car;
+import org.example.models.vehicle.ElectricCar;
+import org.example.models.vehicle.Vehicle;
+import org.example.strategy.allocation.SlotAllocationStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AllocationStrategyBenchmark {
+    @Param({"nearest", "random", "bestfit"})
+    String strategy;
+
+    @Param({"10000"})
+    int lotSize;
+
+    @Param({"0.1", "0.9", "0.999"})
+    double occupancy;
+
+    private ParkingLot lot;
+    private SlotAllocationStrategy allocation;
+    private List<ParkingSlot> availableSlots;
+    private Vehicle car;
+    private Vehicle electricCar;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        allocation = LotFixtures.strategy(strategy);
+        lot = LotFixtures.newLot(lotSize, allocation);
+        LotFixtures.fill(lot, occupancy, 42);
+        availableSlots = lot.getFreeSlots().allFreeSlots();
+        car = new Car("BENCH-1");
+        electricCar = new ElectricCar("BENCH-EV");
+    }
+
+    @Benchmark
+    public ParkingSlot indexedCar() {
+        return allocation.findSlot(lot.getFreeSlots(), car);
+    }
+
+    @Benchmark
+    public ParkingSlot indexedElectricCar() {
+        return allocation.findSlot(lot.getFreeSlots(), electricCar);
+    }
+
+    @Benchmark
+    public ParkingSlot listScanCar() {
+        return allocation.findSlot(availableSlots, car);
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.benchmark;
+
+import org.example.events.EventSink;
+import org.example.models.ExitRequest;
+import org.example.models.ParkResult;
+import org.example.models.ParkingLot;
+import org.example.models.Ticket;
+import org.example.models.vehicle.Car;
+import org.example.models.vehicle.Vehicle;
+import org.example.payment.CashPayment;
+import org.example.payment.PaymentMethod;
+import org.example.persistence.JournalConfig;
+import org.example.persistence.LotPersistence;
+import org.example.strategy.allocation.NearestSlotStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchParkExitBenchmark {
+    private static final int BURST = 64;
+
+    @Param({"none", "buffered"})
+    String journal;
+
+    private Path directory;
+    private LotPersistence persistence;
+    private ParkingLot lot;
+    private List<Vehicle> burst;
+    private List<ExitRequest> exits;
+    private PaymentMethod payment;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        lot = LotFixtures.newLot(10_000, new NearestSlotStrategy());
+        LotFixtures.fill(lot, 0.5, 42);
+        if (!"none".equals(journal)) {
+            directory = Files.createTempDirectory("lot-journal");
+            persistence = LotPersistence.open(lot, JournalConfig.defaults(directory));
+        }
+        burst = new ArrayList<>(BURST);
+        for (int i = 0; i < BURST; i++) {
+            burst.add(new Car("BURST-" + i));
+        }
+        exits = new ArrayList<>(BURST);
+        payment = new CashPayment(EventSink.noOp());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (persistence != null) {
+            persistence.close();
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public long oneAtATime() {
+        long total = 0;
+        List<Ticket> tickets = new ArrayList<>(BURST);
+        for (Vehicle vehicle : burst) {
+            tickets.add(lot.parkVehicle(vehicle));
+        }
+        for (Ticket ticket : tickets) {
+            total += lot.exitVehicle(ticket.getId(), payment);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public int batched() {
+        exits.clear();
+        for (ParkResult result : lot.parkVehicles(burst)) {
+            exits.add(new ExitRequest(result.ticket().getId(), payment));
+        }
+        return lot.exitVehicles(exits).size();
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.benchmark;
+
+import org.example.charging.ChargingScheduler;
+import org.example.models.vehicle.ElectricCar;
+import org.example.models.vehicle.ElectricMotorcycle;
+import org.example.models.vehicle.ElectricVehicle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ChargingBenchmark {
+    private static final long START_MILLIS = 1_780_000_000_000L;
+    private static final long WATTS_PER_SESSION = 2_000;
+
+    @Param({"1000", "10000", "100000"})
+    int sessions;
+
+    private ChargingScheduler scheduler;
+    private ElectricVehicle[] vehicles;
+    private long nowMillis;
+    private long nextTicket;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scheduler = new ChargingScheduler(sessions * WATTS_PER_SESSION, 22_000);
+        vehicles = new ElectricVehicle[sessions];
+        Random random = new Random(42);
+        nowMillis = START_MILLIS;
+        for (int i = 0; i < sessions; i++) {
+            ElectricVehicle vehicle = i % 4 == 0 ? new ElectricMotorcycle("EV" + i) : new ElectricCar("EV" + i);
+            vehicle.setStateOfCharge(random.nextDouble() * 0.5);
+            vehicles[i] = vehicle;
+            scheduler.plug(i, vehicle, null, nowMillis);
+        }
+        nextTicket = sessions;
+    }
+
+    @Benchmark
+    public long unplugThenPlug() {
+        nowMillis++;
+        long ticketId = nextTicket - sessions;
+        long delivered = scheduler.unplug(ticketId, nowMillis);
+        scheduler.plug(nextTicket++, vehicles[(int) (ticketId % sessions)], null, nowMillis);
+        return delivered;
+    }
+
+    @Benchmark
+    public long meterSession() {
+        nowMillis++;
+        return scheduler.deliveredWh(nextTicket - 1, nowMillis);
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.benchmark;
+
+import org.example.events.EventSink;
+import org.example.events.RingBufferEventSink;
+import org.example.models.ParkingLot;
+import org.example.models.Ticket;
+import org.example.models.vehicle.Car;
+import org.example.models.vehicle.Vehicle;
+import org.example.payment.CashPayment;
+import org.example.payment.PaymentMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class GateContentionBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SharedLot {
+        @Param({"nearest", "random"})
+        String strategy;
+
+        @Param({"10000"})
+        int lotSize;
+
+        @Param({"0.9"})
+        double occupancy;
+
+        @Param({"noop", "ring"})
+        String events;
+
+        ParkingLot lot;
+        RingBufferEventSink ring;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            lot = LotFixtures.newLot(lotSize, LotFixtures.strategy(strategy));
+            LotFixtures.fill(lot, occupancy, 42);
+            if ("ring".equals(events)) {
+                ring = new RingBufferEventSink(1 << 16, event -> { });
+                lot.setEventSink(ring);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            if (ring != null) {
+                ring.close();
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Gate {
+        private static final AtomicInteger GATES = new AtomicInteger();
+
+        Vehicle car;
+        PaymentMethod payment;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            car = new Car("GATE-" + GATES.incrementAndGet());
+            payment = new CashPayment(EventSink.noOp());
+        }
+    }
+
+    @Benchmark
+    public long parkThenExit(SharedLot shared, Gate gate) {
+        Ticket ticket = shared.lot.parkVehicle(gate.car);
+        return shared.lot.exitVehicle(ticket.getTicketId(), gate.payment);
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.benchmark;
+
+import org.example.events.EventSink;
+import org.example.models.ParkingLot;
+import org.example.models.Ticket;
+import org.example.models.vehicle.Car;
+import org.example.models.vehicle.Vehicle;
+import org.example.payment.CashPayment;
+import org.example.payment.PaymentMethod;
+import org.example.persistence.JournalConfig;
+import org.example.persistence.LotPersistence;
+import org.example.strategy.allocation.NearestSlotStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JournalBenchmark {
+    @Param({"none", "buffered", "fsync"})
+    String journal;
+
+    private Path directory;
+    private LotPersistence persistence;
+    private ParkingLot lot;
+    private Vehicle car;
+    private PaymentMethod payment;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        lot = LotFixtures.newLot(10_000, new NearestSlotStrategy());
+        LotFixtures.fill(lot, 0.5, 42);
+        if (!"none".equals(journal)) {
+            directory = Files.createTempDirectory("lot-journal");
+            persistence = LotPersistence.open(lot,
+                    JournalConfig.defaults(directory).withFsync("fsync".equals(journal)));
+        }
+        car = new Car("BENCH-1");
+        payment = new CashPayment(EventSink.noOp());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (persistence != null) {
+            persistence.close();
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @Benchmark
+    public long parkThenExit() {
+        Ticket ticket = lot.parkVehicle(car);
+        return lot.exitVehicle(ticket.getId(), payment);
+    }
+}
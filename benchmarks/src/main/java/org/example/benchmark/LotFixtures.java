@@ -0,0 +1,75 @@
+package org.example.benchmark;
+
+import org.example.enums.SlotType;
+import org.example.events.EventSink;
+import org.example.models.ParkingLot;
+import org.example.models.ParkingSlot;
+import org.example.models.vehicle.Car;
+import org.example.models.vehicle.Motorcycle;
+import org.example.models.vehicle.Truck;
+import org.example.models.vehicle.Vehicle;
+import org.example.strategy.allocation.BestFitSlotStrategy;
+import org.example.strategy.allocation.NearestSlotStrategy;
+import org.example.strategy.allocation.RandomSlotStrategy;
+import org.example.strategy.allocation.SlotAllocationStrategy;
+import org.example.strategy.pricing.HourlyPricingStrategy;
+
+import java.util.Random;
+
+final class LotFixtures {
+    static final int SLOTS_PER_FLOOR = 1000;
+
+    private LotFixtures() {
+    }
+
+    static SlotAllocationStrategy strategy(String name) {
+        switch (name) {
+            case "nearest":
+                return new NearestSlotStrategy();
+            case "random":
+                return new RandomSlotStrategy();
+            case "bestfit":
+                return new BestFitSlotStrategy();
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + name);
+        }
+    }
+
+    static ParkingLot newLot(int slotCount, SlotAllocationStrategy strategy) {
+        ParkingLot lot = new ParkingLot("Bench Lot", strategy, new HourlyPricingStrategy());
+        lot.setEventSink(EventSink.noOp());
+        for (int i = 0; i < slotCount; i++) {
+            lot.addSlot(newSlot(i));
+        }
+        return lot;
+    }
+
+    static ParkingSlot newSlot(int i) {
+        int floor = i / SLOTS_PER_FLOOR + 1;
+        int mod = i % 10;
+        SlotType type = mod < 2 ? SlotType.MOTORCYCLE : mod < 8 ? SlotType.CAR : SlotType.TRUCK;
+        boolean charging = i % 10 == 3;
+        return new ParkingSlot(String.format("F%d-%07d", floor, i), type, floor, charging);
+    }
+
+    static void fill(ParkingLot lot, double occupancy, long seed) {
+        Random random = new Random(seed);
+        int n = 0;
+        for (ParkingSlot slot : lot.getSlots()) {
+            if (random.nextDouble() < occupancy) {
+                slot.parkVehicle(vehicleFor(slot.getType(), "FILL" + n++));
+            }
+        }
+    }
+
+    static Vehicle vehicleFor(SlotType type, String plate) {
+        switch (type) {
+            case MOTORCYCLE:
+                return new Motorcycle(plate);
+            case CAR:
+                return new Car(plate);
+            default:
+                return new Truck(plate);
+        }
+    }
+}
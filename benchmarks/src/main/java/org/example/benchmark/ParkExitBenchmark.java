@@ -0,0 +1,82 @@
+package org.example.benchmark;
+
+import org.example.events.EventSink;
+import org.example.metrics.ParkingMetrics;
+import org.example.models.ParkingLot;
+import org.example.models.Ticket;
+import org.example.models.vehicle.Car;
+import org.example.models.vehicle.Vehicle;
+import org.example.payment.CashPayment;
+import org.example.payment.PaymentMethod;
+import org.example.strategy.allocation.NearestSlotStrategy;
+import org.example.util.CoarseClock;
+import org.example.util.LotClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ParkExitBenchmark {
+    @Param({"100", "10000", "1000000"})
+    int lotSize;
+
+    @Param({"0.5"})
+    double occupancy;
+
+    @Param({"off", "on"})
+    String metrics;
+
+    @Param({"system", "coarse"})
+    String clock;
+
+    private ParkingLot lot;
+    private Vehicle car;
+    private PaymentMethod payment;
+    private CoarseClock coarseClock;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        lot = LotFixtures.newLot(lotSize, new NearestSlotStrategy());
+        LotFixtures.fill(lot, occupancy, 42);
+        if ("on".equals(metrics)) {
+            lot.setMetrics(new ParkingMetrics());
+        }
+        if ("coarse".equals(clock)) {
+            coarseClock = LotClock.coarse(Duration.ofMillis(1));
+            lot.setClock(coarseClock);
+        }
+        car = new Car("BENCH-1");
+        payment = new CashPayment(EventSink.noOp());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (coarseClock != null) {
+            coarseClock.close();
+        }
+    }
+
+    @Benchmark
+    public long parkThenExit() {
+        Ticket ticket = lot.parkVehicle(car);
+        return lot.exitVehicle(ticket.getTicketId(), payment);
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.benchmark;
+
+import org.example.enums.SlotType;
+import org.example.models.ParkingSlot;
+import org.example.models.Ticket;
+import org.example.models.vehicle.Car;
+import org.example.models.vehicle.ElectricCar;
+import org.example.models.vehicle.Vehicle;
+import org.example.strategy.pricing.DynamicPricingStrategy;
+import org.example.strategy.pricing.FlatPricingStrategy;
+import org.example.strategy.pricing.HourlyPricingStrategy;
+import org.example.strategy.pricing.PricingStrategy;
+import org.example.strategy.pricing.RateSchedule;
+import org.example.util.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PricingBenchmark {
+    @Param({"hourly", "flat", "dynamic"})
+    String pricing;
+
+    private PricingStrategy strategy;
+    private Ticket ticket;
+    private ParkingSlot slot;
+    private Vehicle car;
+    private ParkingSlot chargingSlot;
+    private Vehicle electricCar;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (pricing) {
+            case "hourly":
+                strategy = new HourlyPricingStrategy();
+                break;
+            case "dynamic":
+                strategy = new DynamicPricingStrategy(weekdayPeakSchedule(), type -> 0.85);
+                break;
+            default:
+                strategy = new FlatPricingStrategy();
+        }
+        ticket = new Ticket("BENCH-1", "F1-C001");
+        ticket.setExitTimeMillis(ticket.getEntryTimeMillis() + TimeUnit.HOURS.toMillis(3));
+        slot = new ParkingSlot("F1-C001", SlotType.CAR, 1, false);
+        car = new Car("BENCH-1");
+        chargingSlot = new ParkingSlot("F1-C002", SlotType.CAR, 1, true);
+        electricCar = new ElectricCar("BENCH-EV");
+        chargingSlot.parkVehicle(electricCar);
+    }
+
+    static RateSchedule weekdayPeakSchedule() {
+        Set<DayOfWeek> weekdays = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+        Set<DayOfWeek> weekend = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+        RateSchedule.Builder builder = RateSchedule.builder(ZoneId.of("Europe/London"))
+                .chargingRate(Money.ofMajor(5.0))
+                .energyRate(Money.ofMajor(0.40))
+                .occupancySurcharge(0.8, 1.25)
+                .occupancySurcharge(0.95, 1.5);
+        for (SlotType type : SlotType.values()) {
+            long base = Money.ofMajor(10.0) * type.getSize();
+            builder.baseRate(type, base)
+                    .band(type, weekdays, LocalTime.of(7, 0), LocalTime.of(10, 0), base * 2)
+                    .band(type, weekdays, LocalTime.of(16, 30), LocalTime.of(19, 0), base * 2)
+                    .band(type, weekdays, LocalTime.of(22, 0), LocalTime.of(6, 0), base / 2)
+                    .band(type, weekend, LocalTime.of(10, 0), LocalTime.of(18, 0), base * 3 / 2);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public long car() {
+        return strategy.calculatePrice(ticket, slot, car);
+    }
+
+    @Benchmark
+    public long chargingElectricCar() {
+        return strategy.calculatePrice(ticket, chargingSlot, electricCar);
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.benchmark;
+
+import org.example.models.ParkingLot;
+import org.example.models.ParkingSlot;
+import org.example.models.Ticket;
+import org.example.strategy.allocation.NearestSlotStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReadViewBenchmark {
+    @Param({"100000"})
+    int lotSize;
+
+    @Param({"0.9"})
+    double occupancy;
+
+    private ParkingLot lot;
+    private int floor;
+    private String ticketId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        lot = LotFixtures.newLot(lotSize, new NearestSlotStrategy());
+        Ticket ticket = null;
+        for (int i = 0; i < lotSize * occupancy; i++) {
+            Ticket parked = lot.tryPark(LotFixtures.vehicleFor(LotFixtures.newSlot(i).getType(), "FILL" + i)).ticket();
+            ticket = parked != null ? parked : ticket;
+        }
+        floor = lot.getSlots().get(lotSize - 1).getFloor();
+        ticketId = ticket.getTicketId();
+    }
+
+    @Benchmark
+    public List<ParkingSlot> copySlots() {
+        return new ArrayList<>(lot.getSlots());
+    }
+
+    @Benchmark
+    public List<ParkingSlot> viewSlots() {
+        return lot.getSlots();
+    }
+
+    @Benchmark
+    public int scanFreeOnFloor() {
+        int free = 0;
+        for (ParkingSlot slot : new ArrayList<>(lot.getSlots())) {
+            if (slot.getFloor() == floor && !slot.isOccupied()) {
+                free++;
+            }
+        }
+        return free;
+    }
+
+    @Benchmark
+    public long queryFreeOnFloor() {
+        return lot.querySlots().onFloor(floor).available().count();
+    }
+
+    @Benchmark
+    public Ticket copyActiveTickets() {
+        Map<String, Ticket> tickets = new HashMap<>();
+        lot.forEachActiveTicket(ticket -> tickets.put(ticket.getTicketId(), ticket));
+        return tickets.get(ticketId);
+    }
+
+    @Benchmark
+    public Ticket viewActiveTickets() {
+        return lot.getActiveTickets().get(ticketId);
+    }
+}
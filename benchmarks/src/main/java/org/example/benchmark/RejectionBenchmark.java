@@ -0,0 +1,52 @@
+package org.example.benchmark;
+
+import org.example.models.ParkResult;
+import org.example.models.ParkingLot;
+import org.example.models.vehicle.Car;
+import org.example.models.vehicle.Vehicle;
+import org.example.strategy.allocation.NearestSlotStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RejectionBenchmark {
+    private ParkingLot lot;
+    private Vehicle car;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        lot = LotFixtures.newLot(10_000, new NearestSlotStrategy());
+        LotFixtures.fill(lot, 1.0, 42);
+        car = new Car("REJECTED");
+    }
+
+    @Benchmark
+    public Object parkVehicleThrows() {
+        try {
+            return lot.parkVehicle(car);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public ParkResult tryPark() {
+        return lot.tryPark(car);
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.benchmark;
+
+import org.example.models.CompactSlotStore;
+import org.example.models.ParkingSlot;
+import org.example.models.vehicle.Car;
+import org.example.models.vehicle.Vehicle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class SlotStoreBenchmark {
+    @Param({"1000000"})
+    int lotSize;
+
+    @Param({"0.9"})
+    double occupancy;
+
+    private List<ParkingSlot> slots;
+    private CompactSlotStore store;
+    private Vehicle car;
+    private int carClasses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        slots = new ArrayList<>(lotSize);
+        store = new CompactSlotStore(lotSize);
+        Random random = new Random(42);
+        for (int i = 0; i < lotSize; i++) {
+            ParkingSlot slot = LotFixtures.newSlot(i);
+            int index = store.addSlot(slot.getSlotId(), slot.getType(), slot.getFloor(), slot.hasChargingStation());
+            if (random.nextDouble() < occupancy) {
+                Vehicle vehicle = LotFixtures.vehicleFor(slot.getType(), "FILL" + i);
+                slot.parkVehicle(vehicle);
+                store.tryPark(index, vehicle);
+            }
+            slots.add(slot);
+        }
+        car = new Car("BENCH-1");
+        carClasses = car.getType().getCompatibleClasses();
+    }
+
+    @Benchmark
+    public ParkingSlot objectsFirstFit() {
+        for (ParkingSlot slot : slots) {
+            if (slot.canFit(car)) {
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public int storeFirstFit() {
+        return store.findFirstFree(carClasses);
+    }
+
+    @Benchmark
+    public int objectsCountFit() {
+        int free = 0;
+        for (ParkingSlot slot : slots) {
+            if (slot.canFit(car)) {
+                free++;
+            }
+        }
+        return free;
+    }
+
+    @Benchmark
+    public int storeCountFit() {
+        return store.countFree(carClasses);
+    }
+}
@@ -1,6 +1,7 @@
 package org.example;
 
 import org.example.enums.SlotType;
+import org.example.models.ParkResult;
 import org.example.models.ParkingLot;
 import org.example.models.ParkingSlot;
 import org.example.models.Ticket;
@@ -144,11 +145,11 @@ public class Main {
         );
 
         for (Vehicle vehicle : moreVehicles) {
-            try {
-                Ticket ticket = parkingLot.parkVehicle(vehicle);
+            ParkResult result = parkingLot.tryPark(vehicle);
+            if (result.isParked()) {
                 System.out.println("Successfully parked: " + vehicle.getLicensePlate());
-            } catch (RuntimeException e) {
-                System.out.println("Failed to park " + vehicle.getLicensePlate() + ": " + e.getMessage());
+            } else {
+                System.out.println("Failed to park " + vehicle.getLicensePlate() + ": " + result.status().getDescription());
             }
         }
 
@@ -0,0 +1,10 @@
+package org.example.charging;
+
+import org.example.models.vehicle.ElectricVehicle;
+
+import java.util.Comparator;
+
+public record ChargerRequest(ElectricVehicle vehicle, long departureMillis, long sequence) {
+    static final Comparator<ChargerRequest> ORDER = Comparator.comparingLong(ChargerRequest::departureMillis)
+            .thenComparingLong(ChargerRequest::sequence);
+}
@@ -0,0 +1,269 @@
+package org.example.charging;
+
+import org.example.enums.VehicleType;
+import org.example.models.ParkingSlot;
+import org.example.models.vehicle.ElectricVehicle;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * Splits a site power budget across plugged-in EVs and meters the energy each one receives. Sessions
+ * are grouped by power limit (the lower of the vehicle's and the charger's rating) and the budget is
+ * water-filled across the groups: a group whose limit is below the fair share draws its limit and the
+ * rest split what remains. Every session in a group draws the same power, so the group keeps a single
+ * running energy integral and a session's delivery is that integral minus its value at plug-in.
+ * Plugging in, unplugging and finishing a charge only move the group integrals forward and touch a
+ * min-heap of completion points, so each costs O(log n) in the number of sessions.
+ *
+ * <p>EVs that found every compatible charger taken can wait in a queue ordered by expected
+ * departure; {@link #pollWaiting} hands the most urgent one that fits a freed charger slot back to
+ * the lot. Every request in a queue is also in the by-plate map and leaves both together, whether it
+ * is handed out, cancelled or expires.
+ */
+public class ChargingScheduler {
+    private static final double MILLIS_PER_HOUR = 3_600_000.0;
+    private static final double EPSILON_WH = 1e-6;
+    private static final long NOT_STARTED = Long.MIN_VALUE;
+
+    private final long chargerWatts;
+    private final TreeMap<Long, PowerGroup> groups;
+    private final Map<Long, ChargingSession> sessions;
+    private final Map<VehicleType, PriorityQueue<ChargerRequest>> waiting;
+    private final Map<String, ChargerRequest> waitingByPlate;
+    private long siteBudgetWatts;
+    private long lastMillis;
+    private int charging;
+    private long nextSequence;
+
+    public ChargingScheduler(long siteBudgetWatts, long chargerWatts) {
+        if (siteBudgetWatts <= 0 || chargerWatts <= 0) {
+            throw new IllegalArgumentException("Power ratings must be positive");
+        }
+        this.siteBudgetWatts = siteBudgetWatts;
+        this.chargerWatts = chargerWatts;
+        this.groups = new TreeMap<>();
+        this.sessions = new HashMap<>();
+        this.waiting = new EnumMap<>(VehicleType.class);
+        this.waitingByPlate = new HashMap<>();
+        this.lastMillis = NOT_STARTED;
+    }
+
+    public synchronized ChargingSession plug(long ticketId, ElectricVehicle vehicle, ParkingSlot slot,
+                                             long nowMillis) {
+        advance(nowMillis);
+        ChargingSession previous = sessions.get(ticketId);
+        if (previous != null) {
+            unplug(previous);
+        }
+        long limit = Math.min(vehicle.getMaxChargingWatts(), chargerWatts);
+        PowerGroup group = groups.computeIfAbsent(limit, PowerGroup::new);
+        ChargingSession session = new ChargingSession(ticketId, vehicle, slot, nowMillis,
+                Math.max(0, vehicle.getEnergyNeededWh()), group);
+        sessions.put(ticketId, session);
+        if (session.getRequestedWh() == 0) {
+            session.finish(ChargingSession.Status.COMPLETED, 0);
+        } else {
+            group.add(session);
+            charging++;
+        }
+        rebalance();
+        return session;
+    }
+
+    public synchronized long unplug(long ticketId, long nowMillis) {
+        advance(nowMillis);
+        ChargingSession session = sessions.remove(ticketId);
+        if (session == null) {
+            return -1;
+        }
+        unplug(session);
+        rebalance();
+        return Math.round(session.currentWh());
+    }
+
+    private void unplug(ChargingSession session) {
+        if (session.getStatus() == ChargingSession.Status.CHARGING) {
+            session.finish(ChargingSession.Status.UNPLUGGED, session.currentWh());
+            session.group.remove();
+            charging--;
+        }
+        sessions.remove(session.getTicketId(), session);
+    }
+
+    public synchronized long deliveredWh(long ticketId, long nowMillis) {
+        advance(nowMillis);
+        ChargingSession session = sessions.get(ticketId);
+        return session != null ? Math.round(session.currentWh()) : -1;
+    }
+
+    public synchronized double powerWatts(long ticketId) {
+        ChargingSession session = sessions.get(ticketId);
+        return session != null && session.getStatus() == ChargingSession.Status.CHARGING
+                ? session.group.shareWatts : 0;
+    }
+
+    public synchronized ChargingSession getSession(long ticketId) {
+        return sessions.get(ticketId);
+    }
+
+    public synchronized void setSiteBudgetWatts(long siteBudgetWatts, long nowMillis) {
+        if (siteBudgetWatts <= 0) {
+            throw new IllegalArgumentException("Site budget must be positive: " + siteBudgetWatts);
+        }
+        advance(nowMillis);
+        this.siteBudgetWatts = siteBudgetWatts;
+        rebalance();
+    }
+
+    public synchronized void advanceTo(long nowMillis) {
+        advance(nowMillis);
+    }
+
+    public synchronized long getSiteBudgetWatts() {
+        return siteBudgetWatts;
+    }
+
+    public synchronized double getSiteLoadWatts() {
+        double load = 0;
+        for (PowerGroup group : groups.values()) {
+            load += group.shareWatts * group.charging;
+        }
+        return load;
+    }
+
+    public synchronized int getChargingCount() {
+        return charging;
+    }
+
+    public synchronized int getSessionCount() {
+        return sessions.size();
+    }
+
+    public synchronized boolean enqueue(ElectricVehicle vehicle, long departureMillis, long nowMillis) {
+        expireWaiting(nowMillis);
+        if (waitingByPlate.containsKey(vehicle.getLicensePlate())) {
+            return false;
+        }
+        requeue(new ChargerRequest(vehicle, departureMillis, nextSequence++));
+        return true;
+    }
+
+    public synchronized void requeue(ChargerRequest request) {
+        if (waitingByPlate.putIfAbsent(request.vehicle().getLicensePlate(), request) == null) {
+            waiting.computeIfAbsent(request.vehicle().getType(), type -> new PriorityQueue<>(ChargerRequest.ORDER))
+                    .add(request);
+        }
+    }
+
+    public synchronized ChargerRequest pollWaiting(int slotClass, long nowMillis) {
+        expireWaiting(nowMillis);
+        PriorityQueue<ChargerRequest> best = null;
+        for (Map.Entry<VehicleType, PriorityQueue<ChargerRequest>> entry : waiting.entrySet()) {
+            ChargerRequest head = entry.getValue().peek();
+            if (head != null && entry.getKey().accepts(slotClass)
+                    && (best == null || ChargerRequest.ORDER.compare(head, best.peek()) < 0)) {
+                best = entry.getValue();
+            }
+        }
+        if (best == null) {
+            return null;
+        }
+        ChargerRequest request = best.poll();
+        waitingByPlate.remove(request.vehicle().getLicensePlate(), request);
+        return request;
+    }
+
+    public synchronized boolean cancelWaiting(String licensePlate) {
+        ChargerRequest request = waitingByPlate.remove(licensePlate);
+        if (request == null) {
+            return false;
+        }
+        waiting.get(request.vehicle().getType()).remove(request);
+        return true;
+    }
+
+    private void expireWaiting(long nowMillis) {
+        for (PriorityQueue<ChargerRequest> queue : waiting.values()) {
+            ChargerRequest head;
+            while ((head = queue.peek()) != null && head.departureMillis() <= nowMillis) {
+                queue.poll();
+                waitingByPlate.remove(head.vehicle().getLicensePlate(), head);
+            }
+        }
+    }
+
+    public synchronized int getWaitingCount() {
+        return waitingByPlate.size();
+    }
+
+    private void advance(long nowMillis) {
+        if (lastMillis == NOT_STARTED || nowMillis <= lastMillis) {
+            lastMillis = Math.max(lastMillis, nowMillis);
+            return;
+        }
+        while (true) {
+            PowerGroup due = null;
+            double dueMillis = nowMillis;
+            for (PowerGroup group : groups.values()) {
+                ChargingSession head = group.nextCompletion();
+                if (head == null || group.shareWatts <= 0) {
+                    continue;
+                }
+                double at = lastMillis +
+                        Math.ceil((head.finishIntegralWh - group.integralWh) / group.shareWatts * MILLIS_PER_HOUR);
+                if (at <= dueMillis && (due == null || at < dueMillis)) {
+                    due = group;
+                    dueMillis = at;
+                }
+            }
+            if (due == null) {
+                break;
+            }
+            accrue(Math.max(lastMillis, (long) dueMillis));
+            complete(due);
+            rebalance();
+        }
+        accrue(nowMillis);
+    }
+
+    private void accrue(long nowMillis) {
+        double hours = (nowMillis - lastMillis) / MILLIS_PER_HOUR;
+        for (PowerGroup group : groups.values()) {
+            group.integralWh += group.shareWatts * hours;
+        }
+        lastMillis = nowMillis;
+    }
+
+    private void complete(PowerGroup group) {
+        ChargingSession head = group.nextCompletion();
+        do {
+            group.completions.poll();
+            head.finish(ChargingSession.Status.COMPLETED, head.getRequestedWh());
+            group.remove();
+            charging--;
+            head = group.nextCompletion();
+        } while (head != null && head.finishIntegralWh <= group.integralWh + EPSILON_WH);
+    }
+
+    private void rebalance() {
+        double budget = siteBudgetWatts;
+        int remaining = charging;
+        Iterator<PowerGroup> iterator = groups.values().iterator();
+        while (iterator.hasNext()) {
+            PowerGroup group = iterator.next();
+            if (group.charging == 0) {
+                iterator.remove();
+                continue;
+            }
+            double share = Math.min(group.maxWatts, budget / remaining);
+            group.shareWatts = share;
+            budget -= share * group.charging;
+            remaining -= group.charging;
+        }
+    }
+}
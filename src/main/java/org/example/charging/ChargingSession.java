@@ -0,0 +1,53 @@
+package org.example.charging;
+
+import org.example.models.ParkingSlot;
+import org.example.models.vehicle.ElectricVehicle;
+
+public final class ChargingSession {
+    public enum Status {
+        CHARGING,
+        COMPLETED,
+        UNPLUGGED
+    }
+
+    private final long ticketId;
+    private final ElectricVehicle vehicle;
+    private final ParkingSlot slot;
+    private final long pluggedInMillis;
+    private final long requestedWh;
+    final PowerGroup group;
+    final double startIntegralWh;
+    final double finishIntegralWh;
+    private volatile Status status;
+    double deliveredWh;
+
+    ChargingSession(long ticketId, ElectricVehicle vehicle, ParkingSlot slot, long pluggedInMillis,
+                    long requestedWh, PowerGroup group) {
+        this.ticketId = ticketId;
+        this.vehicle = vehicle;
+        this.slot = slot;
+        this.pluggedInMillis = pluggedInMillis;
+        this.requestedWh = requestedWh;
+        this.group = group;
+        this.startIntegralWh = group.integralWh;
+        this.finishIntegralWh = group.integralWh + requestedWh;
+        this.status = Status.CHARGING;
+    }
+
+    double currentWh() {
+        return status == Status.CHARGING ? Math.min(group.integralWh - startIntegralWh, requestedWh) : deliveredWh;
+    }
+
+    void finish(Status outcome, double deliveredWh) {
+        this.deliveredWh = deliveredWh;
+        this.status = outcome;
+    }
+
+    public long getTicketId() { return ticketId; }
+    public ElectricVehicle getVehicle() { return vehicle; }
+    public ParkingSlot getSlot() { return slot; }
+    public long getPluggedInMillis() { return pluggedInMillis; }
+    public long getRequestedWh() { return requestedWh; }
+    public long getPowerLimitWatts() { return group.maxWatts; }
+    public Status getStatus() { return status; }
+}
@@ -0,0 +1,45 @@
+package org.example.charging;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Sessions that share one power limit. All of them draw {@link #shareWatts}, so {@link #integralWh}
+ * is the energy every member has received since the group was created. Sessions that leave early
+ * stay in the completion heap until they reach the top or the heap is compacted.
+ */
+final class PowerGroup {
+    private static final int COMPACT_SLACK = 64;
+
+    final long maxWatts;
+    final PriorityQueue<ChargingSession> completions;
+    double shareWatts;
+    double integralWh;
+    int charging;
+
+    PowerGroup(long maxWatts) {
+        this.maxWatts = maxWatts;
+        this.completions = new PriorityQueue<>(Comparator.comparingDouble(session -> session.finishIntegralWh));
+    }
+
+    void add(ChargingSession session) {
+        completions.add(session);
+        charging++;
+    }
+
+    void remove() {
+        charging--;
+        if (completions.size() > 2 * charging + COMPACT_SLACK) {
+            completions.removeIf(session -> session.getStatus() != ChargingSession.Status.CHARGING);
+        }
+    }
+
+    ChargingSession nextCompletion() {
+        ChargingSession head = completions.peek();
+        while (head != null && head.getStatus() != ChargingSession.Status.CHARGING) {
+            completions.poll();
+            head = completions.peek();
+        }
+        return head;
+    }
+}
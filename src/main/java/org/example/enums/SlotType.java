@@ -3,6 +3,10 @@ package org.example.enums;
 public enum SlotType {
     MOTORCYCLE(1), CAR(2), TRUCK(3);
 
+    private static final SlotType[] VALUES = values();
+
+    public static final int CLASS_COUNT = VALUES.length * 2;
+
     private final int size;
 
     SlotType(int size) {
@@ -13,23 +17,23 @@ public enum SlotType {
         return size;
     }
 
+    public int classIndex(boolean charging) {
+        return ordinal() * 2 + (charging ? 1 : 0);
+    }
+
+    public static SlotType ofClass(int slotClass) {
+        return VALUES[slotClass >> 1];
+    }
+
+    public static boolean isChargingClass(int slotClass) {
+        return (slotClass & 1) != 0;
+    }
+
     public boolean canFit(VehicleType vehicleType) {
-        SlotType requiredSlot = getRequiredSlotType(vehicleType);
-        return this.size >= requiredSlot.size;
+        return this.size >= vehicleType.getRequiredSlotType().size;
     }
 
     public static SlotType getRequiredSlotType(VehicleType vehicleType) {
-        switch (vehicleType) {
-            case MOTORCYCLE:
-            case ELECTRIC_MOTORCYCLE:
-                return MOTORCYCLE;
-            case CAR:
-            case ELECTRIC_CAR:
-                return CAR;
-            case TRUCK:
-                return TRUCK;
-            default:
-                throw new IllegalArgumentException("Unknown vehicle type: " + vehicleType);
-        }
+        return vehicleType.getRequiredSlotType();
     }
-}
\ No newline at end of file
+}
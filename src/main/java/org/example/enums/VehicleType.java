@@ -1,9 +1,54 @@
 package org.example.enums;
 
 public enum VehicleType {
-    MOTORCYCLE,
-    CAR,
-    TRUCK,
-    ELECTRIC_CAR,
-    ELECTRIC_MOTORCYCLE
+    MOTORCYCLE(SlotType.MOTORCYCLE, false),
+    CAR(SlotType.CAR, false),
+    TRUCK(SlotType.TRUCK, false),
+    ELECTRIC_CAR(SlotType.CAR, true),
+    ELECTRIC_MOTORCYCLE(SlotType.MOTORCYCLE, true);
+
+    private final SlotType requiredSlotType;
+    private final boolean electric;
+    private final int compatibleClasses;
+    private final int classesWithoutCharger;
+
+    VehicleType(SlotType requiredSlotType, boolean electric) {
+        this.requiredSlotType = requiredSlotType;
+        this.electric = electric;
+
+        int mask = 0;
+        int withoutCharger = 0;
+        for (SlotType slotType : SlotType.values()) {
+            if (slotType.getSize() >= requiredSlotType.getSize()) {
+                mask |= 1 << slotType.classIndex(true);
+                if (electric) {
+                    withoutCharger |= 1 << slotType.classIndex(false);
+                } else {
+                    mask |= 1 << slotType.classIndex(false);
+                }
+            }
+        }
+        this.compatibleClasses = mask;
+        this.classesWithoutCharger = withoutCharger;
+    }
+
+    public SlotType getRequiredSlotType() {
+        return requiredSlotType;
+    }
+
+    public boolean isElectric() {
+        return electric;
+    }
+
+    public int getCompatibleClasses() {
+        return compatibleClasses;
+    }
+
+    public int getClassesWithoutCharger() {
+        return classesWithoutCharger;
+    }
+
+    public boolean accepts(int slotClass) {
+        return (compatibleClasses & (1 << slotClass)) != 0;
+    }
 }
@@ -0,0 +1,51 @@
+package org.example.events;
+
+import org.example.models.Ticket;
+import org.example.util.Money;
+
+import java.io.PrintStream;
+
+public class ConsoleEventConsumer implements EventConsumer {
+    private final PrintStream out;
+
+    public ConsoleEventConsumer() {
+        this(null);
+    }
+
+    public ConsoleEventConsumer(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void accept(ParkingEvent event) {
+        PrintStream out = this.out != null ? this.out : System.out;
+        switch (event.getType()) {
+            case VEHICLE_PARKED:
+                out.println("Vehicle " + event.getVehicle().getLicensePlate() + " parked in slot " +
+                        event.getSlot().getSlotId() + " on floor " + event.getSlot().getFloor());
+                out.println("Ticket ID: " + Ticket.formatId(event.getTicketId()));
+                break;
+            case VEHICLE_EXITED:
+                out.println("Vehicle " + event.getVehicle().getLicensePlate() + " exited successfully");
+                out.println("Total amount: $" + Money.format(event.getAmount()) +
+                        " (Payment: " + event.getLabel() + ")");
+                break;
+            case PAYMENT_PROCESSED:
+                out.println("Processing " + event.getLabel().toLowerCase() + " payment of $" +
+                        Money.format(event.getAmount()) + event.getDetail());
+                break;
+            case RESERVATION_CREATED:
+                out.println("Slot " + event.getSlot().getSlotId() + " held for reservation " + event.getLabel());
+                break;
+            case RESERVATION_EXPIRED:
+                out.println("Reservation " + event.getLabel() + " expired, slot " + event.getSlot().getSlotId() +
+                        " released");
+                break;
+            case PERSISTENCE_WARNING:
+                out.println("Warning: " + event.getLabel());
+                break;
+            default:
+                out.println(event.getType() + " ticket=" + Ticket.formatId(event.getTicketId()));
+        }
+    }
+}
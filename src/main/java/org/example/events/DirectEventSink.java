@@ -0,0 +1,34 @@
+package org.example.events;
+
+import org.example.models.ParkingSlot;
+import org.example.models.vehicle.Vehicle;
+import org.example.util.LotClock;
+
+public class DirectEventSink implements EventSink {
+    static final DirectEventSink CONSOLE = new DirectEventSink(new ConsoleEventConsumer());
+
+    private final EventConsumer consumer;
+    private final LotClock clock;
+    private final ThreadLocal<ParkingEvent> scratch = ThreadLocal.withInitial(ParkingEvent::new);
+
+    public DirectEventSink(EventConsumer consumer) {
+        this(consumer, LotClock.SYSTEM);
+    }
+
+    public DirectEventSink(EventConsumer consumer, LotClock clock) {
+        this.consumer = consumer;
+        this.clock = clock;
+    }
+
+    @Override
+    public void publish(EventType type, long ticketId, long amount, Vehicle vehicle, ParkingSlot slot,
+                        String label, String detail) {
+        ParkingEvent event = scratch.get();
+        event.set(type, clock.currentTimeMillis(), ticketId, amount, vehicle, slot, label, detail);
+        try {
+            consumer.accept(event);
+        } finally {
+            event.clear();
+        }
+    }
+}
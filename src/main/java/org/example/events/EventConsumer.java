@@ -0,0 +1,6 @@
+package org.example.events;
+
+@FunctionalInterface
+public interface EventConsumer {
+    void accept(ParkingEvent event);
+}
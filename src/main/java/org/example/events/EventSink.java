@@ -0,0 +1,21 @@
+package org.example.events;
+
+import org.example.models.ParkingSlot;
+import org.example.models.vehicle.Vehicle;
+
+public interface EventSink {
+    void publish(EventType type, long ticketId, long amount, Vehicle vehicle, ParkingSlot slot,
+                 String label, String detail);
+
+    static EventSink noOp() {
+        return NoOpEventSink.INSTANCE;
+    }
+
+    static EventSink console() {
+        return DirectEventSink.CONSOLE;
+    }
+
+    static EventSink direct(EventConsumer consumer) {
+        return new DirectEventSink(consumer);
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.events;
+
+public enum EventType {
+    VEHICLE_PARKED,
+    VEHICLE_EXITED,
+    PAYMENT_PROCESSED,
+    RESERVATION_CREATED,
+    RESERVATION_EXPIRED,
+    PERSISTENCE_WARNING
+}
@@ -0,0 +1,16 @@
+package org.example.events;
+
+import org.example.models.ParkingSlot;
+import org.example.models.vehicle.Vehicle;
+
+final class NoOpEventSink implements EventSink {
+    static final NoOpEventSink INSTANCE = new NoOpEventSink();
+
+    private NoOpEventSink() {
+    }
+
+    @Override
+    public void publish(EventType type, long ticketId, long amount, Vehicle vehicle, ParkingSlot slot,
+                        String label, String detail) {
+    }
+}
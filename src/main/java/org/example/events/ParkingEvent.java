@@ -0,0 +1,47 @@
+package org.example.events;
+
+import org.example.models.ParkingSlot;
+import org.example.models.vehicle.Vehicle;
+
+/**
+ * Mutable event record. Sinks reuse instances, so consumers must copy anything they keep
+ * beyond {@link EventConsumer#accept}.
+ */
+public final class ParkingEvent {
+    private EventType type;
+    private long timeMillis;
+    private long ticketId;
+    private long amount;
+    private Vehicle vehicle;
+    private ParkingSlot slot;
+    private String label;
+    private String detail;
+
+    void set(EventType type, long timeMillis, long ticketId, long amount, Vehicle vehicle, ParkingSlot slot,
+             String label, String detail) {
+        this.type = type;
+        this.timeMillis = timeMillis;
+        this.ticketId = ticketId;
+        this.amount = amount;
+        this.vehicle = vehicle;
+        this.slot = slot;
+        this.label = label;
+        this.detail = detail;
+    }
+
+    void clear() {
+        vehicle = null;
+        slot = null;
+        label = null;
+        detail = null;
+    }
+
+    public EventType getType() { return type; }
+    public long getTimeMillis() { return timeMillis; }
+    public long getTicketId() { return ticketId; }
+    public long getAmount() { return amount; }
+    public Vehicle getVehicle() { return vehicle; }
+    public ParkingSlot getSlot() { return slot; }
+    public String getLabel() { return label; }
+    public String getDetail() { return detail; }
+}
@@ -0,0 +1,124 @@
+package org.example.events;
+
+import org.example.models.ParkingSlot;
+import org.example.models.vehicle.Vehicle;
+import org.example.util.LotClock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Multi-producer, single-consumer ring of preallocated {@link ParkingEvent}s. Producers claim a
+ * sequence with CAS, fill the slot in place and publish it; a background thread drains slots in
+ * order. When the ring is full the event is dropped and counted rather than blocking a gate.
+ */
+public class RingBufferEventSink implements EventSink, AutoCloseable {
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final ParkingEvent[] events;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong claimed;
+    private final LongAdder dropped;
+    private final LongAdder consumerErrors;
+    private final EventConsumer consumer;
+    private final LotClock clock;
+    private final Thread drainer;
+    private volatile long consumed;
+    private volatile boolean running;
+
+    public RingBufferEventSink(int capacity, EventConsumer consumer) {
+        this(capacity, consumer, LotClock.SYSTEM);
+    }
+
+    public RingBufferEventSink(int capacity, EventConsumer consumer, LotClock clock) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.events = new ParkingEvent[capacity];
+        for (int i = 0; i < capacity; i++) {
+            events[i] = new ParkingEvent();
+        }
+        this.published = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        this.claimed = new AtomicLong();
+        this.dropped = new LongAdder();
+        this.consumerErrors = new LongAdder();
+        this.consumer = consumer;
+        this.clock = clock;
+        this.running = true;
+        this.drainer = new Thread(this::drain, "event-drainer");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    @Override
+    public void publish(EventType type, long ticketId, long amount, Vehicle vehicle, ParkingSlot slot,
+                        String label, String detail) {
+        long seq;
+        do {
+            seq = claimed.get();
+            if (seq - consumed >= events.length || !running) {
+                dropped.increment();
+                return;
+            }
+        } while (!claimed.compareAndSet(seq, seq + 1));
+
+        int index = (int) seq & mask;
+        events[index].set(type, clock.currentTimeMillis(), ticketId, amount, vehicle, slot, label, detail);
+        published.lazySet(index, seq + 1);
+    }
+
+    public void flush() {
+        long target = claimed.get();
+        while (consumed < target && drainer.isAlive()) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getConsumerErrors() {
+        return consumerErrors.sum();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        long seq = 0;
+        int idleSpins = 0;
+        while (running || seq < claimed.get()) {
+            int index = (int) seq & mask;
+            if (published.get(index) == seq + 1) {
+                ParkingEvent event = events[index];
+                try {
+                    consumer.accept(event);
+                } catch (RuntimeException e) {
+                    consumerErrors.increment();
+                } finally {
+                    event.clear();
+                }
+                consumed = ++seq;
+                idleSpins = 0;
+            } else if (++idleSpins < 100) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+}
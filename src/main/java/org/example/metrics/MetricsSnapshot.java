@@ -0,0 +1,52 @@
+package org.example.metrics;
+
+import org.example.enums.VehicleType;
+import org.example.models.AvailabilitySnapshot;
+
+import java.util.Map;
+
+public record MetricsSnapshot(Map<Operation, HistogramSnapshot> operations,
+                              Map<Operation, Map<String, HistogramSnapshot>> byImplementation,
+                              Map<VehicleType, Long> rejections,
+                              AvailabilitySnapshot occupancy) {
+
+    public HistogramSnapshot operation(Operation operation) {
+        return operations.getOrDefault(operation, HistogramSnapshot.EMPTY);
+    }
+
+    public long rejections(VehicleType type) {
+        return rejections.getOrDefault(type, 0L);
+    }
+
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-28s %10s %10s %10s %10s %10s %10s%n",
+                "operation (ns)", "count", "mean", "p50", "p99", "p99.9", "max"));
+        for (Operation operation : Operation.values()) {
+            appendLine(out, operation.name(), operation(operation));
+            Map<String, HistogramSnapshot> implementations = byImplementation.get(operation);
+            if (implementations != null && implementations.size() > 1) {
+                implementations.forEach((name, histogram) -> appendLine(out, "  " + name, histogram));
+            }
+        }
+
+        out.append("rejections:");
+        rejections.forEach((type, count) -> out.append(' ').append(type).append('=').append(count));
+        out.append(System.lineSeparator());
+
+        if (occupancy != null) {
+            out.append("occupancy:");
+            occupancy.bySlotType().forEach((type, count) -> out.append(' ').append(type).append('=')
+                    .append(count.occupied()).append('/').append(count.total()));
+            out.append(" activeTickets=").append(occupancy.activeTickets());
+            out.append(System.lineSeparator());
+        }
+        return out.toString();
+    }
+
+    private static void appendLine(StringBuilder out, String label, HistogramSnapshot histogram) {
+        out.append(String.format("%-28s %10d %10.0f %10d %10d %10d %10d%n", label, histogram.count(),
+                histogram.mean(), histogram.percentile(50), histogram.percentile(99),
+                histogram.percentile(99.9), histogram.max()));
+    }
+}
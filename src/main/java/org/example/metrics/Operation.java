@@ -0,0 +1,9 @@
+package org.example.metrics;
+
+public enum Operation {
+    PARK,
+    EXIT,
+    ALLOCATE,
+    PRICE,
+    PAY
+}
@@ -0,0 +1,159 @@
+package org.example.metrics;
+
+import org.example.enums.VehicleType;
+import org.example.models.AvailabilitySnapshot;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Latency histograms per operation and implementation class, rejection counters per vehicle type
+ * and an occupancy gauge. Timers chain: {@link #recordSince} returns its end timestamp so nested
+ * phases share clock reads. {@link #DISABLED} skips the clock entirely.
+ */
+public final class ParkingMetrics implements AutoCloseable {
+    private static final Operation[] OPERATIONS = Operation.values();
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+
+    public static final ParkingMetrics DISABLED = new ParkingMetrics(false);
+
+    private final boolean enabled;
+    private final Histograms[] histograms;
+    private final LongAdder[] rejections;
+    private volatile Supplier<AvailabilitySnapshot> occupancy;
+    private ScheduledExecutorService reporter;
+
+    public ParkingMetrics() {
+        this(true);
+    }
+
+    private ParkingMetrics(boolean enabled) {
+        this.enabled = enabled;
+        this.histograms = new Histograms[OPERATIONS.length];
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            histograms[i] = new Histograms();
+        }
+        this.rejections = new LongAdder[VEHICLE_TYPES.length];
+        for (int i = 0; i < VEHICLE_TYPES.length; i++) {
+            rejections[i] = new LongAdder();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long startTimer() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    public long recordSince(Operation operation, Class<?> implementation, long start) {
+        if (!enabled) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        histogram(operation, implementation).record(now - start);
+        return now;
+    }
+
+    public void recordBatchSince(Operation operation, Class<?> implementation, long start, int batchSize) {
+        if (!enabled || batchSize == 0) {
+            return;
+        }
+        long perItem = (System.nanoTime() - start) / batchSize;
+        LatencyHistogram histogram = histogram(operation, implementation);
+        for (int i = 0; i < batchSize; i++) {
+            histogram.record(perItem);
+        }
+    }
+
+    public void record(Operation operation, Class<?> implementation, long nanos) {
+        if (enabled) {
+            histogram(operation, implementation).record(nanos);
+        }
+    }
+
+    public void recordRejection(VehicleType type) {
+        if (enabled) {
+            rejections[type.ordinal()].increment();
+        }
+    }
+
+    public void bindOccupancy(Supplier<AvailabilitySnapshot> occupancy) {
+        if (enabled) {
+            this.occupancy = occupancy;
+        }
+    }
+
+    private LatencyHistogram histogram(Operation operation, Class<?> implementation) {
+        return histograms[operation.ordinal()].get(implementation);
+    }
+
+    public MetricsSnapshot snapshot() {
+        Map<Operation, HistogramSnapshot> totals = new EnumMap<>(Operation.class);
+        Map<Operation, Map<String, HistogramSnapshot>> byImplementation = new EnumMap<>(Operation.class);
+        for (Operation operation : OPERATIONS) {
+            HistogramSnapshot total = HistogramSnapshot.EMPTY;
+            Map<String, HistogramSnapshot> implementations = new TreeMap<>();
+            for (Map.Entry<Class<?>, LatencyHistogram> entry : histograms[operation.ordinal()].all.entrySet()) {
+                HistogramSnapshot snapshot = entry.getValue().snapshot();
+                implementations.merge(entry.getKey().getSimpleName(), snapshot, HistogramSnapshot::merge);
+                total = total.merge(snapshot);
+            }
+            totals.put(operation, total);
+            byImplementation.put(operation, implementations);
+        }
+
+        Map<VehicleType, Long> rejected = new EnumMap<>(VehicleType.class);
+        for (VehicleType type : VEHICLE_TYPES) {
+            rejected.put(type, rejections[type.ordinal()].sum());
+        }
+
+        Supplier<AvailabilitySnapshot> occupancy = this.occupancy;
+        return new MetricsSnapshot(totals, byImplementation, rejected, occupancy != null ? occupancy.get() : null);
+    }
+
+    public synchronized void startReporting(Duration interval, Consumer<String> output) {
+        if (reporter != null) {
+            return;
+        }
+        reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reporter.scheduleAtFixedRate(() -> output.accept(snapshot().format()),
+                interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (reporter != null) {
+            reporter.shutdown();
+            reporter = null;
+        }
+    }
+
+    /**
+     * One operation's histograms keyed by implementation class. The {@link ClassValue} lookup is a
+     * lock-free, allocation-free read once a class has been seen, however many implementations
+     * alternate; {@link #all} keeps them enumerable for snapshots.
+     */
+    private static final class Histograms extends ClassValue<LatencyHistogram> {
+        final Map<Class<?>, LatencyHistogram> all = new ConcurrentHashMap<>();
+
+        @Override
+        protected LatencyHistogram computeValue(Class<?> implementation) {
+            return all.computeIfAbsent(implementation, c -> new LatencyHistogram());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.models;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only view of a lot's active tickets keyed by formatted ticket ID. Lookups parse the key and
+ * go straight to the concurrent store; iteration is weakly consistent and copies nothing.
+ */
+final class ActiveTicketView extends AbstractMap<String, Ticket> {
+    private final Map<Long, Ticket> tickets;
+
+    ActiveTicketView(Map<Long, Ticket> tickets) {
+        this.tickets = tickets;
+    }
+
+    @Override
+    public Ticket get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        try {
+            return tickets.get(Ticket.parseId((String) key));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return tickets.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return tickets.isEmpty();
+    }
+
+    @Override
+    public Set<Entry<String, Ticket>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Ticket>> iterator() {
+                Iterator<Ticket> values = tickets.values().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return values.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Ticket> next() {
+                        Ticket ticket = values.next();
+                        return Map.entry(ticket.getTicketId(), ticket);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return tickets.size();
+            }
+        };
+    }
+}
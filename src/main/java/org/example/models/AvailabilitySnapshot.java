@@ -0,0 +1,54 @@
+package org.example.models;
+
+import org.example.enums.SlotType;
+
+import java.util.Collections;
+import java.util.Map;
+
+public record AvailabilitySnapshot(String lotName,
+                                   Map<SlotType, SlotCount> bySlotType,
+                                   Map<SlotType, SlotCount> chargingBySlotType,
+                                   Map<Integer, SlotCount> byFloor,
+                                   int activeTickets) {
+
+    public AvailabilitySnapshot {
+        bySlotType = Collections.unmodifiableMap(bySlotType);
+        chargingBySlotType = Collections.unmodifiableMap(chargingBySlotType);
+        byFloor = Collections.unmodifiableMap(byFloor);
+    }
+
+    public SlotCount slotType(SlotType type) {
+        return bySlotType.get(type);
+    }
+
+    public SlotCount floor(int floor) {
+        return byFloor.getOrDefault(floor, SlotCount.EMPTY);
+    }
+
+    public SlotCount charging() {
+        long total = 0;
+        long occupied = 0;
+        for (SlotCount count : chargingBySlotType.values()) {
+            total += count.total();
+            occupied += count.occupied();
+        }
+        return new SlotCount(total, occupied);
+    }
+
+    public long available(SlotType type, boolean charging) {
+        SlotCount withCharger = chargingBySlotType.get(type);
+        return charging ? withCharger.available() : bySlotType.get(type).available() - withCharger.available();
+    }
+
+    public record SlotCount(long total, long occupied) {
+        public static final SlotCount EMPTY = new SlotCount(0, 0);
+
+        public long available() {
+            return total - occupied;
+        }
+
+        public double occupancyPercent() {
+            return total > 0 ? occupied * 100.0 / total : 0;
+        }
+    }
+}
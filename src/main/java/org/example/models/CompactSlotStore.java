@@ -0,0 +1,291 @@
+package org.example.models;
+
+import org.example.enums.SlotType;
+import org.example.models.vehicle.ElectricVehicle;
+import org.example.models.vehicle.Vehicle;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-capacity struct-of-arrays slot store for very large lots. A slot is an index: its
+ * compatibility class (type and charger) lives in a {@code byte[]}, its floor in a {@code short[]},
+ * occupancy in a bitset and the parked vehicle behind an {@code int} handle. A park claims the
+ * handle by CAS before setting the occupancy bit and a removal clears the bit before releasing the
+ * handle, so a set bit always has a vehicle behind it. Slot IDs are packed ASCII in one shared
+ * {@code byte[]} with an open-addressing index for lookups; the array is republished through a
+ * volatile field once filled, so lookups need no lock. {@link Cursor} exposes the
+ * {@link ParkingSlot} accessors over any index without allocating per slot.
+ */
+public class CompactSlotStore {
+    private static final int NO_VEHICLE = 0;
+
+    private final int capacity;
+    private final byte[] slotClasses;
+    private final short[] floors;
+    private final AtomicLongArray occupied;
+    private final AtomicIntegerArray vehicleHandles;
+    private final int[] idOffsets;
+    private final int[] idTable;
+    private final int idMask;
+    private volatile byte[] idBytes;
+    private int idLength;
+    private volatile int size;
+
+    private final Object handleLock = new Object();
+    private Vehicle[] vehicles;
+    private int[] freeHandles;
+    private int freeHandleCount;
+    private int nextHandle;
+
+    public CompactSlotStore(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.slotClasses = new byte[capacity];
+        this.floors = new short[capacity];
+        this.occupied = new AtomicLongArray((capacity + 63) >>> 6);
+        this.vehicleHandles = new AtomicIntegerArray(capacity);
+        this.idOffsets = new int[capacity + 1];
+        this.idTable = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+        this.idMask = idTable.length - 1;
+        this.idBytes = new byte[capacity * 8];
+        this.vehicles = new Vehicle[64];
+        this.freeHandles = new int[64];
+        this.nextHandle = 1;
+    }
+
+    public synchronized int addSlot(String slotId, SlotType type, int floor, boolean hasChargingStation) {
+        if (size == capacity) {
+            throw new IllegalStateException("Slot store is full: " + capacity);
+        }
+        if (floor < Short.MIN_VALUE || floor > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Floor out of range: " + floor);
+        }
+        byte[] id = slotId.getBytes(StandardCharsets.US_ASCII);
+        if (indexOf(id) >= 0) {
+            throw new IllegalArgumentException("Duplicate slot ID: " + slotId);
+        }
+
+        int index = size;
+        byte[] ids = idBytes;
+        if (idLength + id.length > ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(ids.length * 2, idLength + id.length));
+        }
+        System.arraycopy(id, 0, ids, idLength, id.length);
+        idBytes = ids;
+        idLength += id.length;
+        idOffsets[index + 1] = idLength;
+        slotClasses[index] = (byte) type.classIndex(hasChargingStation);
+        floors[index] = (short) floor;
+
+        int bucket = hash(id, 0, id.length) & idMask;
+        while (idTable[bucket] != 0) {
+            bucket = (bucket + 1) & idMask;
+        }
+        idTable[bucket] = index + 1;
+        size = index + 1;
+        return index;
+    }
+
+    public int indexOf(String slotId) {
+        return indexOf(slotId.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private int indexOf(byte[] id) {
+        int count = size;
+        byte[] ids = idBytes;
+        int bucket = hash(id, 0, id.length) & idMask;
+        int entry;
+        while ((entry = idTable[bucket]) != 0) {
+            int index = entry - 1;
+            if (index < count && Arrays.equals(ids, idOffsets[index], idOffsets[index + 1], id, 0, id.length)) {
+                return index;
+            }
+            bucket = (bucket + 1) & idMask;
+        }
+        return -1;
+    }
+
+    private static int hash(byte[] bytes, int from, int to) {
+        int h = 1;
+        for (int i = from; i < to; i++) {
+            h = 31 * h + bytes[i];
+        }
+        return h ^ (h >>> 16);
+    }
+
+    public boolean tryPark(int index, Vehicle vehicle) {
+        checkIndex(index);
+        if (!vehicle.getType().accepts(slotClasses[index]) || vehicleHandles.get(index) != NO_VEHICLE) {
+            return false;
+        }
+        int handle = allocateHandle(vehicle);
+        if (!vehicleHandles.compareAndSet(index, NO_VEHICLE, handle)) {
+            releaseHandle(handle);
+            return false;
+        }
+        occupied.getAndAccumulate(index >>> 6, 1L << index, (word, bit) -> word | bit);
+        if (vehicle instanceof ElectricVehicle && SlotType.isChargingClass(slotClasses[index])) {
+            ((ElectricVehicle) vehicle).setUsingCharging(true);
+        }
+        return true;
+    }
+
+    public Vehicle removeVehicle(int index) {
+        checkIndex(index);
+        occupied.getAndAccumulate(index >>> 6, ~(1L << index), (word, mask) -> word & mask);
+        int handle = vehicleHandles.getAndSet(index, NO_VEHICLE);
+        if (handle == NO_VEHICLE) {
+            return null;
+        }
+        Vehicle vehicle = releaseHandle(handle);
+        if (vehicle instanceof ElectricVehicle) {
+            ((ElectricVehicle) vehicle).setUsingCharging(false);
+        }
+        return vehicle;
+    }
+
+    public Vehicle getParkedVehicle(int index) {
+        checkIndex(index);
+        int handle = vehicleHandles.get(index);
+        if (handle == NO_VEHICLE) {
+            return null;
+        }
+        synchronized (handleLock) {
+            return vehicles[handle];
+        }
+    }
+
+    private int allocateHandle(Vehicle vehicle) {
+        synchronized (handleLock) {
+            int handle;
+            if (freeHandleCount > 0) {
+                handle = freeHandles[--freeHandleCount];
+            } else {
+                handle = nextHandle++;
+                if (handle == vehicles.length) {
+                    vehicles = Arrays.copyOf(vehicles, vehicles.length * 2);
+                }
+            }
+            vehicles[handle] = vehicle;
+            return handle;
+        }
+    }
+
+    private Vehicle releaseHandle(int handle) {
+        synchronized (handleLock) {
+            Vehicle vehicle = vehicles[handle];
+            vehicles[handle] = null;
+            if (freeHandleCount == freeHandles.length) {
+                freeHandles = Arrays.copyOf(freeHandles, freeHandles.length * 2);
+            }
+            freeHandles[freeHandleCount++] = handle;
+            return vehicle;
+        }
+    }
+
+    public int findFirstFree(int classMask) {
+        int count = size;
+        for (int w = 0, words = (count + 63) >>> 6; w < words; w++) {
+            long free = ~occupied.get(w);
+            while (free != 0) {
+                int index = (w << 6) + Long.numberOfTrailingZeros(free);
+                if (index >= count) {
+                    return -1;
+                }
+                if ((classMask & (1 << slotClasses[index])) != 0) {
+                    return index;
+                }
+                free &= free - 1;
+            }
+        }
+        return -1;
+    }
+
+    public int countFree(int classMask) {
+        int count = size;
+        int free = 0;
+        for (int w = 0, words = (count + 63) >>> 6; w < words; w++) {
+            long bits = ~occupied.get(w);
+            if (w == words - 1 && (count & 63) != 0) {
+                bits &= (1L << count) - 1;
+            }
+            while (bits != 0) {
+                int index = (w << 6) + Long.numberOfTrailingZeros(bits);
+                if ((classMask & (1 << slotClasses[index])) != 0) {
+                    free++;
+                }
+                bits &= bits - 1;
+            }
+        }
+        return free;
+    }
+
+    public boolean isOccupied(int index) {
+        checkIndex(index);
+        return (occupied.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Slot index " + index + " out of " + size);
+        }
+    }
+
+    public final class Cursor {
+        private int index = -1;
+
+        public Cursor moveTo(int index) {
+            checkIndex(index);
+            this.index = index;
+            return this;
+        }
+
+        public int getIndex() { return index; }
+        public String getSlotId() {
+            return new String(idBytes, idOffsets[index], idOffsets[index + 1] - idOffsets[index],
+                    StandardCharsets.US_ASCII);
+        }
+        public SlotType getType() { return SlotType.ofClass(slotClasses[index]); }
+        public int getFloor() { return floors[index]; }
+        public boolean hasChargingStation() { return SlotType.isChargingClass(slotClasses[index]); }
+        public int getSlotClass() { return slotClasses[index]; }
+        public boolean isOccupied() { return CompactSlotStore.this.isOccupied(index); }
+        public boolean isAvailable() { return !isOccupied(); }
+        public Vehicle getParkedVehicle() { return CompactSlotStore.this.getParkedVehicle(index); }
+
+        public boolean canFit(Vehicle vehicle) {
+            return isAvailable() && vehicle.getType().accepts(slotClasses[index]);
+        }
+
+        public boolean tryPark(Vehicle vehicle) {
+            return CompactSlotStore.this.tryPark(index, vehicle);
+        }
+
+        public Vehicle removeVehicle() {
+            return CompactSlotStore.this.removeVehicle(index);
+        }
+
+        @Override
+        public String toString() {
+            return getSlotId() + " (Floor " + getFloor() + ", " + getType() +
+                    (hasChargingStation() ? ", Charging Available" : "") + ")";
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.models;
+
+import org.example.payment.PaymentMethod;
+
+public record ExitRequest(long ticketId, PaymentMethod paymentMethod) {
+    public ExitRequest(String ticketId, PaymentMethod paymentMethod) {
+        this(Ticket.parseId(ticketId), paymentMethod);
+    }
+}
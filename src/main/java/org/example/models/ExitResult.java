@@ -0,0 +1,15 @@
+package org.example.models;
+
+public record ExitResult(long ticketId, long amount, Status status) {
+    public enum Status {
+        EXITED,
+        INVALID_TICKET,
+        EXIT_IN_PROGRESS,
+        PAYMENT_FAILED,
+        JOURNAL_FAILED
+    }
+
+    public boolean isExited() {
+        return status == Status.EXITED;
+    }
+}
@@ -0,0 +1,306 @@
+package org.example.models;
+
+import org.example.enums.SlotType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Free slots per compatibility class as bitsets over dense slot ordinals. Ordinals follow
+ * {@link #SLOT_ORDER}, so the lowest set bit across a vehicle's compatible classes is the nearest
+ * free slot. Each class also keeps a summary bitset with one bit per non-empty word, which makes a
+ * search touch O(N / 4096) summary words plus one data word. Adding slots marks the layout stale;
+ * it is re-sorted on the next query. Alongside the bitsets each class keeps its free slots in a
+ * swap-remove array so a uniformly random free slot is one array read.
+ */
+public class FreeSlotIndex {
+    public static final Comparator<ParkingSlot> SLOT_ORDER = (a, b) -> {
+        int byFloor = Integer.compare(a.getFloor(), b.getFloor());
+        return byFloor != 0 ? byFloor : a.getSlotId().compareTo(b.getSlotId());
+    };
+
+    private final Object[] locks;
+    private final AtomicIntegerArray counts;
+    private final AtomicReferenceArray<ParkingSlot>[] dense;
+    private final List<ParkingSlot> registered;
+    private volatile Layout layout;
+    private volatile boolean stale;
+
+    FreeSlotIndex() {
+        locks = new Object[SlotType.CLASS_COUNT];
+        for (int c = 0; c < SlotType.CLASS_COUNT; c++) {
+            locks[c] = new Object();
+        }
+        counts = new AtomicIntegerArray(SlotType.CLASS_COUNT);
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        AtomicReferenceArray<ParkingSlot>[] arrays = new AtomicReferenceArray[SlotType.CLASS_COUNT];
+        dense = arrays;
+        for (int c = 0; c < SlotType.CLASS_COUNT; c++) {
+            dense[c] = new AtomicReferenceArray<>(16);
+        }
+        registered = new ArrayList<>();
+        layout = new Layout(new ParkingSlot[0]);
+    }
+
+    synchronized void register(ParkingSlot slot) {
+        registered.add(slot);
+        stale = true;
+        sync(slot);
+    }
+
+    void sync(ParkingSlot slot) {
+        int slotClass = slot.getSlotClass();
+        synchronized (locks[slotClass]) {
+            boolean free = slot.isAvailable();
+            if (free == slot.indexedFree) {
+                return;
+            }
+            slot.indexedFree = free;
+            if (free) {
+                addDense(slotClass, slot);
+            } else {
+                removeDense(slotClass, slot);
+            }
+            if (slot.ordinal >= 0) {
+                layout.update(slotClass, slot.ordinal, free);
+            }
+        }
+    }
+
+    private void addDense(int slotClass, ParkingSlot slot) {
+        int size = counts.get(slotClass);
+        AtomicReferenceArray<ParkingSlot> array = dense[slotClass];
+        if (size == array.length()) {
+            AtomicReferenceArray<ParkingSlot> grown = new AtomicReferenceArray<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                grown.set(i, array.get(i));
+            }
+            dense[slotClass] = grown;
+            array = grown;
+        }
+        array.set(size, slot);
+        slot.densePosition = size;
+        counts.set(slotClass, size + 1);
+    }
+
+    private void removeDense(int slotClass, ParkingSlot slot) {
+        int last = counts.get(slotClass) - 1;
+        AtomicReferenceArray<ParkingSlot> array = dense[slotClass];
+        ParkingSlot moved = array.get(last);
+        array.set(slot.densePosition, moved);
+        moved.densePosition = slot.densePosition;
+        counts.set(slotClass, last);
+        array.set(last, null);
+        slot.densePosition = -1;
+    }
+
+    private Layout current() {
+        if (stale) {
+            rebuild();
+        }
+        return layout;
+    }
+
+    private synchronized void rebuild() {
+        if (stale) {
+            lockClassesAndRebuild(0);
+            stale = false;
+        }
+    }
+
+    private void lockClassesAndRebuild(int slotClass) {
+        if (slotClass == SlotType.CLASS_COUNT) {
+            ParkingSlot[] ordered = registered.toArray(new ParkingSlot[0]);
+            Arrays.sort(ordered, SLOT_ORDER);
+            Layout rebuilt = new Layout(ordered);
+            for (int ordinal = 0; ordinal < ordered.length; ordinal++) {
+                ParkingSlot slot = ordered[ordinal];
+                slot.ordinal = ordinal;
+                if (slot.indexedFree) {
+                    rebuilt.update(slot.getSlotClass(), ordinal, true);
+                }
+            }
+            layout = rebuilt;
+            return;
+        }
+        synchronized (locks[slotClass]) {
+            lockClassesAndRebuild(slotClass + 1);
+        }
+    }
+
+    public ParkingSlot firstFree(int slotClass) {
+        return firstFreeIn(1 << slotClass);
+    }
+
+    public ParkingSlot firstFree(SlotType type, boolean charging) {
+        return firstFree(type.classIndex(charging));
+    }
+
+    public ParkingSlot firstFreeIn(int classMask) {
+        Layout layout = current();
+        int ordinal = layout.nextFree(classMask, 0);
+        return ordinal >= 0 ? layout.slots[ordinal] : null;
+    }
+
+    public ParkingSlot firstFreeOnFloor(SlotType type, boolean charging, int floor) {
+        Layout layout = current();
+        int ordinal = layout.nextFree(1 << type.classIndex(charging), layout.firstOrdinalOnFloor(floor));
+        return ordinal >= 0 && layout.slots[ordinal].getFloor() == floor ? layout.slots[ordinal] : null;
+    }
+
+    public ParkingSlot freeAt(int slotClass, int position) {
+        AtomicReferenceArray<ParkingSlot> array = dense[slotClass];
+        return position < array.length() ? array.get(position) : null;
+    }
+
+    public List<ParkingSlot> freeSlots(int slotClass) {
+        List<ParkingSlot> result = new ArrayList<>();
+        forEachFree(1 << slotClass, result::add);
+        return result;
+    }
+
+    public List<ParkingSlot> freeSlots(SlotType type, boolean charging) {
+        return freeSlots(type.classIndex(charging));
+    }
+
+    void forEachFree(int classMask, Consumer<? super ParkingSlot> action) {
+        Layout layout = current();
+        for (int ordinal = layout.nextFree(classMask, 0); ordinal >= 0;
+             ordinal = layout.nextFree(classMask, ordinal + 1)) {
+            action.accept(layout.slots[ordinal]);
+        }
+    }
+
+    void forEachFreeOnFloor(int classMask, int floor, Consumer<? super ParkingSlot> action) {
+        Layout layout = current();
+        for (int ordinal = layout.nextFree(classMask, layout.firstOrdinalOnFloor(floor));
+             ordinal >= 0 && layout.slots[ordinal].getFloor() == floor;
+             ordinal = layout.nextFree(classMask, ordinal + 1)) {
+            action.accept(layout.slots[ordinal]);
+        }
+    }
+
+    void forEachOnFloor(int floor, Consumer<? super ParkingSlot> action) {
+        Layout layout = current();
+        ParkingSlot[] slots = layout.slots;
+        for (int ordinal = layout.firstOrdinalOnFloor(floor);
+             ordinal < slots.length && slots[ordinal].getFloor() == floor; ordinal++) {
+            action.accept(slots[ordinal]);
+        }
+    }
+
+    public int freeCount(int slotClass) {
+        return counts.get(slotClass);
+    }
+
+    public int freeCount(SlotType type, boolean charging) {
+        return freeCount(type.classIndex(charging));
+    }
+
+    public List<ParkingSlot> allFreeSlots() {
+        List<ParkingSlot> result = new ArrayList<>();
+        for (int c = 0; c < SlotType.CLASS_COUNT; c++) {
+            result.addAll(freeSlots(c));
+        }
+        return result;
+    }
+
+    private static final class Layout {
+        private final ParkingSlot[] slots;
+        private final AtomicLongArray[] words;
+        private final AtomicLongArray[] summaries;
+
+        Layout(ParkingSlot[] slots) {
+            this.slots = slots;
+            int wordCount = (slots.length + 63) >>> 6;
+            int summaryCount = (wordCount + 63) >>> 6;
+            words = new AtomicLongArray[SlotType.CLASS_COUNT];
+            summaries = new AtomicLongArray[SlotType.CLASS_COUNT];
+            for (int c = 0; c < SlotType.CLASS_COUNT; c++) {
+                words[c] = new AtomicLongArray(wordCount);
+                summaries[c] = new AtomicLongArray(summaryCount);
+            }
+        }
+
+        void update(int slotClass, int ordinal, boolean free) {
+            AtomicLongArray classWords = words[slotClass];
+            int w = ordinal >>> 6;
+            long word = classWords.get(w);
+            long updated = free ? word | (1L << ordinal) : word & ~(1L << ordinal);
+            classWords.set(w, updated);
+            if ((word == 0) != (updated == 0)) {
+                AtomicLongArray summary = summaries[slotClass];
+                long bits = summary.get(w >>> 6);
+                summary.set(w >>> 6, updated != 0 ? bits | (1L << w) : bits & ~(1L << w));
+            }
+        }
+
+        int nextFree(int classMask, int from) {
+            if (from >= slots.length) {
+                return -1;
+            }
+            int w = from >>> 6;
+            long word = wordAt(classMask, w) & (-1L << from);
+            while (word == 0) {
+                w = nextNonEmptyWord(classMask, w + 1);
+                if (w < 0) {
+                    return -1;
+                }
+                word = wordAt(classMask, w);
+            }
+            return (w << 6) + Long.numberOfTrailingZeros(word);
+        }
+
+        private int nextNonEmptyWord(int classMask, int from) {
+            int s = from >>> 6;
+            int summaryCount = summaries[0].length();
+            if (s >= summaryCount) {
+                return -1;
+            }
+            long bits = summaryAt(classMask, s) & (-1L << from);
+            while (bits == 0) {
+                if (++s >= summaryCount) {
+                    return -1;
+                }
+                bits = summaryAt(classMask, s);
+            }
+            return (s << 6) + Long.numberOfTrailingZeros(bits);
+        }
+
+        private long wordAt(int classMask, int w) {
+            long word = 0;
+            for (int classes = classMask; classes != 0; classes &= classes - 1) {
+                word |= words[Integer.numberOfTrailingZeros(classes)].get(w);
+            }
+            return word;
+        }
+
+        private long summaryAt(int classMask, int s) {
+            long bits = 0;
+            for (int classes = classMask; classes != 0; classes &= classes - 1) {
+                bits |= summaries[Integer.numberOfTrailingZeros(classes)].get(s);
+            }
+            return bits;
+        }
+
+        int firstOrdinalOnFloor(int floor) {
+            int low = 0;
+            int high = slots.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (slots[mid].getFloor() < floor) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
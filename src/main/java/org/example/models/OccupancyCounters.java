@@ -0,0 +1,75 @@
+package org.example.models;
+
+import org.example.enums.SlotType;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class OccupancyCounters {
+    private static final SlotType[] SLOT_TYPES = SlotType.values();
+
+    private final LongAdder[][] total;
+    private final LongAdder[][] occupied;
+    private final Map<Integer, FloorCounters> floors;
+
+    OccupancyCounters() {
+        total = new LongAdder[SLOT_TYPES.length][2];
+        occupied = new LongAdder[SLOT_TYPES.length][2];
+        for (int t = 0; t < SLOT_TYPES.length; t++) {
+            for (int c = 0; c < 2; c++) {
+                total[t][c] = new LongAdder();
+                occupied[t][c] = new LongAdder();
+            }
+        }
+        floors = new ConcurrentHashMap<>();
+    }
+
+    void onAdded(ParkingSlot slot) {
+        FloorCounters floor = floors.computeIfAbsent(slot.getFloor(), f -> new FloorCounters());
+        total[slot.getType().ordinal()][slot.hasChargingStation() ? 1 : 0].increment();
+        floor.total.increment();
+    }
+
+    void onParked(ParkingSlot slot) {
+        occupied[slot.getType().ordinal()][slot.hasChargingStation() ? 1 : 0].increment();
+        floors.get(slot.getFloor()).occupied.increment();
+    }
+
+    void onFreed(ParkingSlot slot) {
+        occupied[slot.getType().ordinal()][slot.hasChargingStation() ? 1 : 0].decrement();
+        floors.get(slot.getFloor()).occupied.decrement();
+    }
+
+    double occupancy(SlotType type) {
+        int t = type.ordinal();
+        long slots = total[t][0].sum() + total[t][1].sum();
+        return slots > 0 ? (double) (occupied[t][0].sum() + occupied[t][1].sum()) / slots : 0;
+    }
+
+    AvailabilitySnapshot snapshot(String lotName, int activeTickets) {
+        Map<SlotType, AvailabilitySnapshot.SlotCount> bySlotType = new EnumMap<>(SlotType.class);
+        Map<SlotType, AvailabilitySnapshot.SlotCount> chargingBySlotType = new EnumMap<>(SlotType.class);
+        for (SlotType type : SLOT_TYPES) {
+            int t = type.ordinal();
+            long chargingTotal = total[t][1].sum();
+            long chargingOccupied = occupied[t][1].sum();
+            bySlotType.put(type, new AvailabilitySnapshot.SlotCount(
+                    total[t][0].sum() + chargingTotal, occupied[t][0].sum() + chargingOccupied));
+            chargingBySlotType.put(type, new AvailabilitySnapshot.SlotCount(chargingTotal, chargingOccupied));
+        }
+
+        Map<Integer, AvailabilitySnapshot.SlotCount> byFloor = new TreeMap<>();
+        floors.forEach((floor, counters) -> byFloor.put(floor,
+                new AvailabilitySnapshot.SlotCount(counters.total.sum(), counters.occupied.sum())));
+
+        return new AvailabilitySnapshot(lotName, bySlotType, chargingBySlotType, byFloor, activeTickets);
+    }
+
+    private static final class FloorCounters {
+        private final LongAdder total = new LongAdder();
+        private final LongAdder occupied = new LongAdder();
+    }
+}
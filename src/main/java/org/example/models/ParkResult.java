@@ -0,0 +1,39 @@
+package org.example.models;
+
+import org.example.models.vehicle.Vehicle;
+
+public record ParkResult(Vehicle vehicle, Ticket ticket, Status status) {
+    public enum Status {
+        PARKED("Parked"),
+        NO_COMPATIBLE_SLOT("No available slot"),
+        NO_CHARGER("No free charging slot"),
+        LOT_CLOSED("Lot is closed"),
+        INVALID_RESERVATION("Reservation is not active"),
+        DUPLICATE_ENTRY("Vehicle is already parked"),
+        QUEUED_FOR_CHARGER("Waiting for a free charger"),
+        INVALID_PLATE("License plate is too long to record"),
+        JOURNAL_FAILED("Entry could not be recorded");
+
+        private final String description;
+
+        Status(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    public static ParkResult parked(Vehicle vehicle, Ticket ticket) {
+        return new ParkResult(vehicle, ticket, Status.PARKED);
+    }
+
+    public static ParkResult rejected(Vehicle vehicle, Status status) {
+        return new ParkResult(vehicle, null, status);
+    }
+
+    public boolean isParked() {
+        return status == Status.PARKED;
+    }
+}
@@ -1,36 +1,102 @@
 package org.example.models;
 
+import org.example.charging.ChargerRequest;
+import org.example.charging.ChargingScheduler;
 import org.example.enums.SlotType;
+import org.example.events.EventSink;
+import org.example.events.EventType;
+import org.example.metrics.Operation;
+import org.example.metrics.ParkingMetrics;
+import org.example.models.vehicle.ElectricVehicle;
 import org.example.models.vehicle.Vehicle;
+import org.example.payment.AsyncPaymentProcessor;
 import org.example.payment.PaymentMethod;
+import org.example.payment.PaymentResult;
+import org.example.persistence.LotJournal;
 import org.example.strategy.allocation.NearestSlotStrategy;
 import org.example.strategy.allocation.SlotAllocationStrategy;
 import org.example.strategy.pricing.HourlyPricingStrategy;
 import org.example.strategy.pricing.PricingStrategy;
+import org.example.strategy.ticketid.TicketIdGenerator;
+import org.example.util.LotClock;
 
-import java.time.LocalDateTime;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 public class ParkingLot {
     private final String name;
-    private final List<ParkingSlot> slots;
-    private final Map<String, Ticket> activeTickets;
-    private SlotAllocationStrategy allocationStrategy;
-    private PricingStrategy pricingStrategy;
+    private volatile SlotTable slotTable;
+    private final Map<String, ParkingSlot> slotsById;
+    private final Map<Long, Ticket> activeTickets;
+    private final Map<String, Ticket> ticketsByPlate;
+    private final Map<String, Ticket> activeTicketView;
+    private final FreeSlotIndex freeSlots;
+    private final OccupancyCounters occupancy;
+    private final ReservationBook reservations;
+    private volatile SlotAllocationStrategy allocationStrategy;
+    private volatile PricingStrategy pricingStrategy;
+    private final TicketIdGenerator ticketIds;
+    private volatile LotJournal journal;
+    private volatile EventSink events;
+    private volatile ParkingMetrics metrics;
+    private volatile boolean closed;
+    private volatile LotClock clock;
+    private volatile ChargingScheduler charging;
 
     public ParkingLot(String name, SlotAllocationStrategy allocationStrategy, PricingStrategy pricingStrategy) {
+        this(name, allocationStrategy, pricingStrategy, TicketIdGenerator.shared());
+    }
+
+    public ParkingLot(String name, SlotAllocationStrategy allocationStrategy, PricingStrategy pricingStrategy,
+                      TicketIdGenerator ticketIds) {
         this.name = name;
-        this.slots = new ArrayList<>();
-        this.activeTickets = new HashMap<>();
+        this.slotTable = new SlotTable(new ParkingSlot[16], 0);
+        this.slotsById = new ConcurrentHashMap<>();
+        this.activeTickets = new ConcurrentHashMap<>();
+        this.ticketsByPlate = new ConcurrentHashMap<>();
+        this.activeTicketView = new ActiveTicketView(activeTickets);
+        this.freeSlots = new FreeSlotIndex();
+        this.occupancy = new OccupancyCounters();
+        this.reservations = new ReservationBook(freeSlots, () -> clock.currentTimeMillis(),
+                reservation -> events.publish(EventType.RESERVATION_EXPIRED, 0, 0, null, reservation.getSlot(),
+                        reservation.getReservationId(), null));
         this.allocationStrategy = allocationStrategy;
         this.pricingStrategy = pricingStrategy;
+        this.ticketIds = ticketIds;
+        this.journal = LotJournal.NO_OP;
+        this.events = EventSink.console();
+        this.metrics = ParkingMetrics.DISABLED;
+        this.clock = LotClock.SYSTEM;
     }
 
-    public void addSlot(ParkingSlot slot) {
-        slots.add(slot);
+    public synchronized void addSlot(ParkingSlot slot) {
+        if (!slot.isAvailable()) {
+            throw new IllegalArgumentException("Slot must be empty when added: " + slot.getSlotId());
+        }
+        if (!fitsJournal(slot.getSlotId())) {
+            throw new IllegalArgumentException("Slot ID is too long: " + slot.getSlotId());
+        }
+        if (slotsById.putIfAbsent(slot.getSlotId(), slot) != null) {
+            throw new IllegalArgumentException("Duplicate slot ID: " + slot.getSlotId());
+        }
+        SlotTable table = slotTable;
+        ParkingSlot[] array = table.slots();
+        if (table.size() == array.length) {
+            array = Arrays.copyOf(array, array.length * 2);
+        }
+        array[table.size()] = slot;
+        slot.attach(freeSlots, occupancy);
+        slotTable = new SlotTable(array, table.size() + 1);
     }
 
     public void setAllocationStrategy(SlotAllocationStrategy strategy) {
@@ -41,105 +107,803 @@ public class ParkingLot {
         this.pricingStrategy = strategy;
     }
 
-    public Ticket parkVehicle(Vehicle vehicle) {
-        List<ParkingSlot> availableSlots = slots.stream()
-                .filter(slot -> !slot.isOccupied())
-                .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+    public SlotAllocationStrategy getAllocationStrategy() {
+        return allocationStrategy;
+    }
+
+    public PricingStrategy getPricingStrategy() {
+        return pricingStrategy;
+    }
+
+    public void setJournal(LotJournal journal) {
+        this.journal = journal;
+    }
+
+    public void setEventSink(EventSink events) {
+        this.events = events;
+    }
+
+    public EventSink getEventSink() {
+        return events;
+    }
+
+    public void setMetrics(ParkingMetrics metrics) {
+        metrics.bindOccupancy(this::getAvailability);
+        this.metrics = metrics;
+    }
+
+    public ParkingMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void setClock(LotClock clock) {
+        this.clock = clock;
+    }
+
+    public LotClock getClock() {
+        return clock;
+    }
+
+    public void setChargingScheduler(ChargingScheduler charging) {
+        this.charging = charging;
+    }
 
-        ParkingSlot allocatedSlot = allocationStrategy.findSlot(availableSlots, vehicle);
+    public ChargingScheduler getChargingScheduler() {
+        return charging;
+    }
+
+    public void setClosed(boolean closed) {
+        this.closed = closed;
+    }
 
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public Ticket parkVehicle(Vehicle vehicle) {
+        ParkResult result = tryPark(vehicle);
+        switch (result.status()) {
+            case PARKED:
+                return result.ticket();
+            case LOT_CLOSED:
+                throw new IllegalStateException("Lot is closed: " + name);
+            case DUPLICATE_ENTRY:
+                throw new IllegalStateException("Vehicle already parked: " + vehicle.getLicensePlate());
+            case INVALID_PLATE:
+                throw new IllegalArgumentException("License plate is too long: " + vehicle.getLicensePlate());
+            case JOURNAL_FAILED:
+                throw new IllegalStateException("Could not record entry for vehicle: " + vehicle.getLicensePlate());
+            default:
+                throw new RuntimeException("No available slot for vehicle: " + vehicle.getLicensePlate());
+        }
+    }
+
+    public ParkResult tryPark(Vehicle vehicle) {
+        if (closed) {
+            return ParkResult.rejected(vehicle, ParkResult.Status.LOT_CLOSED);
+        }
+        if (!fitsJournal(vehicle.getLicensePlate())) {
+            return ParkResult.rejected(vehicle, ParkResult.Status.INVALID_PLATE);
+        }
+        if (ticketsByPlate.containsKey(vehicle.getLicensePlate())) {
+            return ParkResult.rejected(vehicle, ParkResult.Status.DUPLICATE_ENTRY);
+        }
+        ParkingMetrics metrics = this.metrics;
+        SlotAllocationStrategy strategy = allocationStrategy;
+        long start = metrics.startTimer();
+        ParkingSlot allocatedSlot = claimSlot(strategy, vehicle);
         if (allocatedSlot == null) {
-            throw new RuntimeException("No available slot for vehicle: " + vehicle.getLicensePlate());
+            metrics.recordRejection(vehicle.getType());
+            return ParkResult.rejected(vehicle, rejectionFor(vehicle));
+        }
+        metrics.recordSince(Operation.ALLOCATE, strategy.getClass(), start);
+
+        Ticket ticket = issueTicket(vehicle, allocatedSlot);
+        if (ticket == null) {
+            return ParkResult.rejected(vehicle, ParkResult.Status.DUPLICATE_ENTRY);
+        }
+        if (!journalPark(ticket, vehicle, allocatedSlot)) {
+            return ParkResult.rejected(vehicle, ParkResult.Status.JOURNAL_FAILED);
+        }
+
+        events.publish(EventType.VEHICLE_PARKED, ticket.getId(), 0, vehicle, allocatedSlot, null, null);
+        plugIn(ticket, vehicle, allocatedSlot);
+
+        metrics.recordSince(Operation.PARK, ParkingLot.class, start);
+        return ParkResult.parked(vehicle, ticket);
+    }
+
+    private ParkResult.Status rejectionFor(Vehicle vehicle) {
+        for (int classes = vehicle.getType().getClassesWithoutCharger(); classes != 0; classes &= classes - 1) {
+            if (freeSlots.freeCount(Integer.numberOfTrailingZeros(classes)) > 0) {
+                return ParkResult.Status.NO_CHARGER;
+            }
+        }
+        return ParkResult.Status.NO_COMPATIBLE_SLOT;
+    }
+
+    public List<ParkResult> parkVehicles(List<Vehicle> vehicles) {
+        List<ParkResult> results = new ArrayList<>(vehicles.size());
+        if (closed) {
+            for (Vehicle vehicle : vehicles) {
+                results.add(ParkResult.rejected(vehicle, ParkResult.Status.LOT_CLOSED));
+            }
+            return results;
+        }
+        ParkingMetrics metrics = this.metrics;
+        SlotAllocationStrategy strategy = allocationStrategy;
+        long start = metrics.startTimer();
+        List<Ticket> tickets = new ArrayList<>(vehicles.size());
+        List<Vehicle> parked = new ArrayList<>(vehicles.size());
+        List<ParkingSlot> parkedSlots = new ArrayList<>(vehicles.size());
+        List<Integer> parkedAt = new ArrayList<>(vehicles.size());
+        int exhaustedClasses = 0;
+
+        for (Vehicle vehicle : vehicles) {
+            if (!fitsJournal(vehicle.getLicensePlate())) {
+                results.add(ParkResult.rejected(vehicle, ParkResult.Status.INVALID_PLATE));
+                continue;
+            }
+            if (ticketsByPlate.containsKey(vehicle.getLicensePlate())) {
+                results.add(ParkResult.rejected(vehicle, ParkResult.Status.DUPLICATE_ENTRY));
+                continue;
+            }
+            int compatible = vehicle.getType().getCompatibleClasses();
+            ParkingSlot slot = (compatible & ~exhaustedClasses) != 0 ? claimSlot(strategy, vehicle) : null;
+            if (slot == null) {
+                exhaustedClasses |= emptyClasses(compatible);
+                metrics.recordRejection(vehicle.getType());
+                results.add(ParkResult.rejected(vehicle, rejectionFor(vehicle)));
+                continue;
+            }
+            Ticket ticket = issueTicket(vehicle, slot);
+            if (ticket == null) {
+                results.add(ParkResult.rejected(vehicle, ParkResult.Status.DUPLICATE_ENTRY));
+                continue;
+            }
+            tickets.add(ticket);
+            parked.add(vehicle);
+            parkedSlots.add(slot);
+            parkedAt.add(results.size());
+            results.add(ParkResult.parked(vehicle, ticket));
         }
 
-        allocatedSlot.parkVehicle(vehicle);
-        Ticket ticket = new Ticket(vehicle.getLicensePlate(), allocatedSlot.getSlotId());
-        activeTickets.put(ticket.getTicketId(), ticket);
+        try {
+            journal.recordParks(tickets, parked);
+        } catch (RuntimeException e) {
+            for (int i = 0; i < tickets.size(); i++) {
+                rollbackPark(tickets.get(i), parkedSlots.get(i));
+                results.set(parkedAt.get(i), ParkResult.rejected(parked.get(i), ParkResult.Status.JOURNAL_FAILED));
+            }
+            return results;
+        }
+        EventSink events = this.events;
+        for (int i = 0; i < tickets.size(); i++) {
+            events.publish(EventType.VEHICLE_PARKED, tickets.get(i).getId(), 0, parked.get(i), parkedSlots.get(i),
+                    null, null);
+            plugIn(tickets.get(i), parked.get(i), parkedSlots.get(i));
+        }
+        metrics.recordBatchSince(Operation.PARK, ParkingLot.class, start, tickets.size());
+        return results;
+    }
+
+    private int emptyClasses(int classMask) {
+        int empty = 0;
+        for (int classes = classMask; classes != 0; classes &= classes - 1) {
+            int slotClass = Integer.numberOfTrailingZeros(classes);
+            if (freeSlots.freeCount(slotClass) == 0) {
+                empty |= 1 << slotClass;
+            }
+        }
+        return empty;
+    }
+
+    public Reservation reserve(SlotType type, boolean charging, Duration holdFor) {
+        if (closed) {
+            throw new IllegalStateException("Lot is closed: " + name);
+        }
+        long now = clock.currentTimeMillis();
+        Reservation reservation = reservations.hold(type.classIndex(charging), now, now + holdFor.toMillis());
+        if (reservation != null) {
+            events.publish(EventType.RESERVATION_CREATED, 0, 0, null, reservation.getSlot(),
+                    reservation.getReservationId(), null);
+        }
+        return reservation;
+    }
+
+    public ParkResult parkReserved(long reservationId, Vehicle vehicle) {
+        if (closed) {
+            return ParkResult.rejected(vehicle, ParkResult.Status.LOT_CLOSED);
+        }
+        if (!fitsJournal(vehicle.getLicensePlate())) {
+            return ParkResult.rejected(vehicle, ParkResult.Status.INVALID_PLATE);
+        }
+        if (ticketsByPlate.containsKey(vehicle.getLicensePlate())) {
+            return ParkResult.rejected(vehicle, ParkResult.Status.DUPLICATE_ENTRY);
+        }
+        Reservation reservation = reservations.get(reservationId);
+        if (reservation == null) {
+            return ParkResult.rejected(vehicle, ParkResult.Status.INVALID_RESERVATION);
+        }
+        ParkingSlot slot = reservation.getSlot();
+        long now = clock.currentTimeMillis();
+        Ticket ticket = new Ticket(ticketIds.nextId(), vehicle.getLicensePlate(), slot.getSlotId(), now);
+        if (ticketsByPlate.putIfAbsent(ticket.getVehicleLicense(), ticket) != null) {
+            return ParkResult.rejected(vehicle, ParkResult.Status.DUPLICATE_ENTRY);
+        }
+        if (!reservations.claim(reservation, vehicle, now)) {
+            ticketsByPlate.remove(ticket.getVehicleLicense(), ticket);
+            return ParkResult.rejected(vehicle, ParkResult.Status.INVALID_RESERVATION);
+        }
+        activeTickets.put(ticket.getId(), ticket);
+        try {
+            journal.recordPark(ticket, vehicle);
+        } catch (RuntimeException e) {
+            activeTickets.remove(ticket.getId());
+            ticketsByPlate.remove(ticket.getVehicleLicense(), ticket);
+            reservations.unclaim(reservation, vehicle);
+            return ParkResult.rejected(vehicle, ParkResult.Status.JOURNAL_FAILED);
+        }
+        events.publish(EventType.VEHICLE_PARKED, ticket.getId(), 0, vehicle, slot, null, null);
+        plugIn(ticket, vehicle, slot);
+        return ParkResult.parked(vehicle, ticket);
+    }
+
+    public ParkResult parkOrQueueForCharger(ElectricVehicle vehicle, long departureMillis) {
+        ChargingScheduler charging = this.charging;
+        if (charging == null) {
+            throw new IllegalStateException("No charging scheduler configured for " + name);
+        }
+        ParkResult result = tryPark(vehicle);
+        ParkResult.Status status = result.status();
+        if (status != ParkResult.Status.NO_CHARGER && status != ParkResult.Status.NO_COMPATIBLE_SLOT) {
+            return result;
+        }
+        if (!charging.enqueue(vehicle, departureMillis, clock.currentTimeMillis())) {
+            return ParkResult.rejected(vehicle, ParkResult.Status.DUPLICATE_ENTRY);
+        }
+        ParkingSlot freed = freeSlots.firstFreeIn(vehicle.getType().getCompatibleClasses());
+        if (freed != null) {
+            admitWaiting(freed);
+        }
+        Ticket ticket = ticketsByPlate.get(vehicle.getLicensePlate());
+        return ticket != null ? ParkResult.parked(vehicle, ticket)
+                : ParkResult.rejected(vehicle, ParkResult.Status.QUEUED_FOR_CHARGER);
+    }
+
+    private void admitWaiting(ParkingSlot slot) {
+        ChargingScheduler charging = this.charging;
+        if (charging == null || closed || !slot.hasChargingStation()) {
+            return;
+        }
+        ChargerRequest request;
+        while ((request = charging.pollWaiting(slot.getSlotClass(), clock.currentTimeMillis())) != null) {
+            ElectricVehicle vehicle = request.vehicle();
+            if (!slot.tryPark(vehicle)) {
+                charging.requeue(request);
+                return;
+            }
+            Ticket ticket = issueTicket(vehicle, slot);
+            if (ticket != null) {
+                if (!journalPark(ticket, vehicle, slot)) {
+                    charging.requeue(request);
+                    return;
+                }
+                events.publish(EventType.VEHICLE_PARKED, ticket.getId(), 0, vehicle, slot, null, null);
+                plugIn(ticket, vehicle, slot);
+                return;
+            }
+        }
+    }
+
+    private void plugIn(Ticket ticket, Vehicle vehicle, ParkingSlot slot) {
+        ChargingScheduler charging = this.charging;
+        if (charging != null && vehicle.isUsingCharging()) {
+            charging.plug(ticket.getId(), (ElectricVehicle) vehicle, slot, ticket.getEntryTimeMillis());
+        }
+    }
+
+    public boolean cancelReservation(long reservationId) {
+        Reservation reservation = reservations.get(reservationId);
+        return reservation != null && reservations.release(reservation, Reservation.Status.CANCELLED);
+    }
+
+    public Reservation getReservation(long reservationId) {
+        return reservations.get(reservationId);
+    }
+
+    public int expireReservations() {
+        return reservations.expire(clock.currentTimeMillis());
+    }
+
+    private ParkingSlot claimSlot(SlotAllocationStrategy strategy, Vehicle vehicle) {
+        ParkingSlot slot;
+        do {
+            slot = strategy.findSlot(freeSlots, vehicle);
+        } while (slot != null && !slot.tryPark(vehicle));
+        return slot;
+    }
+
+    private boolean journalPark(Ticket ticket, Vehicle vehicle, ParkingSlot slot) {
+        try {
+            journal.recordPark(ticket, vehicle);
+            return true;
+        } catch (RuntimeException e) {
+            rollbackPark(ticket, slot);
+            return false;
+        }
+    }
 
-        System.out.println("Vehicle " + vehicle.getLicensePlate() + " parked in slot " +
-                allocatedSlot.getSlotId() + " on floor " + allocatedSlot.getFloor());
-        System.out.println("Ticket ID: " + ticket.getTicketId());
+    private void rollbackPark(Ticket ticket, ParkingSlot slot) {
+        activeTickets.remove(ticket.getId());
+        ticketsByPlate.remove(ticket.getVehicleLicense(), ticket);
+        slot.removeVehicle();
+    }
+
+    private static boolean fitsJournal(String value) {
+        return value.length() * 3 <= LotJournal.MAX_FIELD_BYTES
+                || value.getBytes(StandardCharsets.UTF_8).length <= LotJournal.MAX_FIELD_BYTES;
+    }
 
+    private Ticket issueTicket(Vehicle vehicle, ParkingSlot slot) {
+        Ticket ticket = new Ticket(ticketIds.nextId(), vehicle.getLicensePlate(), slot.getSlotId(),
+                clock.currentTimeMillis());
+        if (ticketsByPlate.putIfAbsent(ticket.getVehicleLicense(), ticket) != null) {
+            slot.removeVehicle();
+            return null;
+        }
+        activeTickets.put(ticket.getId(), ticket);
         return ticket;
     }
 
-    public double exitVehicle(String ticketId, PaymentMethod paymentMethod) {
+    public long exitVehicle(String ticketId, PaymentMethod paymentMethod) {
+        return exitVehicle(Ticket.parseId(ticketId), paymentMethod);
+    }
+
+    public long exitVehicle(long ticketId, PaymentMethod paymentMethod) {
+        ExitResult result = tryExit(ticketId, paymentMethod);
+        switch (result.status()) {
+            case EXITED:
+                return result.amount();
+            case INVALID_TICKET:
+                throw new IllegalArgumentException("Invalid ticket ID: " + Ticket.formatId(ticketId));
+            case EXIT_IN_PROGRESS:
+                throw new IllegalStateException("Exit already in progress for ticket: " + Ticket.formatId(ticketId));
+            case JOURNAL_FAILED:
+                throw new IllegalStateException("Could not record exit for ticket: " + Ticket.formatId(ticketId));
+            default:
+                throw new RuntimeException("Payment failed for ticket: " + Ticket.formatId(ticketId));
+        }
+    }
+
+    public ExitResult tryExit(long ticketId, PaymentMethod paymentMethod) {
         Ticket ticket = activeTickets.get(ticketId);
         if (ticket == null) {
-            throw new IllegalArgumentException("Invalid ticket ID: " + ticketId);
+            return new ExitResult(ticketId, 0, ExitResult.Status.INVALID_TICKET);
         }
+        if (!ticket.tryBeginExit()) {
+            return new ExitResult(ticketId, 0, ExitResult.Status.EXIT_IN_PROGRESS);
+        }
+        ParkingSlot slot = slotForExit(ticket);
+        if (slot == null) {
+            return new ExitResult(ticketId, 0, ExitResult.Status.INVALID_TICKET);
+        }
+        if (ticket.isPaid()) {
+            return new ExitResult(ticketId, ticket.getAmount(), completeExit(ticket, slot, paymentMethod)
+                    ? ExitResult.Status.EXITED : ExitResult.Status.JOURNAL_FAILED);
+        }
+        ParkingMetrics metrics = this.metrics;
+        long start = metrics.startTimer();
+        ticket.setExitTimeMillis(clock.currentTimeMillis());
+        long priced = priceExit(ticket, slot, metrics, start);
+        long amount = ticket.getAmount();
 
-        ParkingSlot slot = findSlotById(ticket.getSlotId());
+        boolean paymentSuccess;
+        try {
+            paymentSuccess = paymentMethod.processPayment(amount);
+        } catch (RuntimeException e) {
+            paymentSuccess = false;
+        }
+        metrics.recordSince(Operation.PAY, paymentMethod.getClass(), priced);
+        if (paymentSuccess) {
+            if (!completeExit(ticket, slot, paymentMethod)) {
+                return new ExitResult(ticketId, amount, ExitResult.Status.JOURNAL_FAILED);
+            }
+            metrics.recordSince(Operation.EXIT, ParkingLot.class, start);
+            return new ExitResult(ticketId, amount, ExitResult.Status.EXITED);
+        } else {
+            abortExit(ticket);
+            return new ExitResult(ticketId, amount, ExitResult.Status.PAYMENT_FAILED);
+        }
+    }
+
+    /**
+     * Prices the exit and settles payment on the processor. The slot is released, or the exit aborted,
+     * once the processor answers. If that takes longer than the processor's timeout, the returned future
+     * completes with {@link PaymentResult.Status#TIMED_OUT} while the ticket stays locked in its exit
+     * (later attempts get EXIT_IN_PROGRESS). When the late answer arrives, the exit completes or aborts
+     * as usual, so a charge that succeeds after the timeout still closes the ticket exactly once. If the
+     * exit cannot be journaled after the charge, the future fails and the ticket stays paid, so the next
+     * exit attempt releases the slot without charging again.
+     */
+    public CompletableFuture<PaymentResult> exitVehicleAsync(long ticketId, PaymentMethod paymentMethod,
+                                                            AsyncPaymentProcessor processor) {
+        return exitVehicleAsync(ticketId, paymentMethod, processor, Runnable::run);
+    }
+
+    /**
+     * As {@link #exitVehicleAsync(long, PaymentMethod, AsyncPaymentProcessor)}, but the slot release or
+     * exit abort runs on {@code releaseExecutor} instead of the processor's thread.
+     */
+    public CompletableFuture<PaymentResult> exitVehicleAsync(long ticketId, PaymentMethod paymentMethod,
+                                                            AsyncPaymentProcessor processor,
+                                                            Executor releaseExecutor) {
+        Ticket ticket = activeTickets.get(ticketId);
+        if (ticket == null) {
+            return CompletableFuture.failedFuture(
+                    new IllegalArgumentException("Invalid ticket ID: " + Ticket.formatId(ticketId)));
+        }
+        ParkingMetrics metrics = this.metrics;
+        long start = metrics.startTimer();
+        ParkingSlot slot;
+        try {
+            slot = beginExit(ticket);
+        } catch (IllegalStateException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (ticket.isPaid()) {
+            if (!completeExit(ticket, slot, paymentMethod)) {
+                return CompletableFuture.failedFuture(journalFailure(ticket));
+            }
+            return CompletableFuture.completedFuture(
+                    PaymentResult.approved(ticket.getAmount(), paymentMethod.getPaymentType()));
+        }
+        ticket.setExitTimeMillis(clock.currentTimeMillis());
+        long priced = priceExit(ticket, slot, metrics, start);
+        long amount = ticket.getAmount();
+
+        CompletableFuture<PaymentResult> payment;
+        try {
+            payment = processor.submit(paymentMethod, amount);
+        } catch (RuntimeException e) {
+            abortExit(ticket);
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<PaymentResult> settled = payment.thenApplyAsync(result -> {
+            metrics.recordSince(Operation.PAY, paymentMethod.getClass(), priced);
+            if (result.isSuccess()) {
+                if (!completeExit(ticket, slot, paymentMethod)) {
+                    throw journalFailure(ticket);
+                }
+                metrics.recordSince(Operation.EXIT, ParkingLot.class, start);
+            } else {
+                abortExit(ticket);
+            }
+            return result;
+        }, releaseExecutor);
+        return processor.withTimeout(settled, amount, paymentMethod.getPaymentType());
+    }
+
+    public List<ExitResult> exitVehicles(List<ExitRequest> requests) {
+        ParkingMetrics metrics = this.metrics;
+        long start = metrics.startTimer();
+        int size = requests.size();
+        Ticket[] tickets = new Ticket[size];
+        ParkingSlot[] slots = new ParkingSlot[size];
+        ExitResult.Status[] statuses = new ExitResult.Status[size];
+        int[] priced = new int[size];
+        int pricedCount = 0;
+        PricingStrategy pricing = pricingStrategy;
+        long exitTimeMillis = clock.currentTimeMillis();
+        List<Ticket> exited = new ArrayList<>(size);
+        Vehicle[] vehicles = new Vehicle[size];
+
+        for (int i = 0; i < size; i++) {
+            ExitRequest request = requests.get(i);
+            Ticket ticket = activeTickets.get(request.ticketId());
+            if (ticket == null) {
+                statuses[i] = ExitResult.Status.INVALID_TICKET;
+                continue;
+            }
+            if (!ticket.tryBeginExit()) {
+                statuses[i] = ExitResult.Status.EXIT_IN_PROGRESS;
+                continue;
+            }
+            ParkingSlot slot = slotForExit(ticket);
+            if (slot == null) {
+                statuses[i] = ExitResult.Status.INVALID_TICKET;
+                continue;
+            }
+            tickets[i] = ticket;
+            slots[i] = slot;
+            if (ticket.isPaid()) {
+                if (journalExit(ticket)) {
+                    vehicles[i] = releaseExit(ticket, slot);
+                    exited.add(ticket);
+                    statuses[i] = ExitResult.Status.EXITED;
+                } else {
+                    statuses[i] = ExitResult.Status.JOURNAL_FAILED;
+                }
+                continue;
+            }
+            ticket.setExitTimeMillis(exitTimeMillis);
+            ticket.setAmount(price(pricing, ticket, slot));
+            priced[pricedCount++] = i;
+        }
+
+        int[] group = new int[pricedCount];
+        while (pricedCount > 0) {
+            PaymentMethod paymentMethod = requests.get(priced[0]).paymentMethod();
+            int groupSize = 0;
+            int remaining = 0;
+            for (int k = 0; k < pricedCount; k++) {
+                if (requests.get(priced[k]).paymentMethod() == paymentMethod) {
+                    group[groupSize++] = priced[k];
+                } else {
+                    priced[remaining++] = priced[k];
+                }
+            }
+            pricedCount = remaining;
+
+            long[] amounts = new long[groupSize];
+            for (int j = 0; j < groupSize; j++) {
+                amounts[j] = tickets[group[j]].getAmount();
+            }
+            long paying = metrics.startTimer();
+            boolean[] paid = settle(paymentMethod, amounts);
+            metrics.recordSince(Operation.PAY, paymentMethod.getClass(), paying);
+
+            int settled = exited.size();
+            for (int j = 0; j < groupSize; j++) {
+                if (paid[j]) {
+                    exited.add(tickets[group[j]]);
+                }
+            }
+            List<Ticket> journaled = exited.subList(settled, exited.size());
+            boolean recorded = journalExits(journaled);
+            if (!recorded) {
+                journaled.clear();
+            }
+            for (int j = 0; j < groupSize; j++) {
+                int i = group[j];
+                if (paid[j] && !recorded) {
+                    statuses[i] = ExitResult.Status.JOURNAL_FAILED;
+                } else if (paid[j]) {
+                    vehicles[i] = releaseExit(tickets[i], slots[i]);
+                    statuses[i] = ExitResult.Status.EXITED;
+                } else {
+                    abortExit(tickets[i]);
+                    statuses[i] = ExitResult.Status.PAYMENT_FAILED;
+                }
+            }
+        }
+
+        EventSink events = this.events;
+        List<ExitResult> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ExitRequest request = requests.get(i);
+            if (statuses[i] == ExitResult.Status.EXITED) {
+                events.publish(EventType.VEHICLE_EXITED, request.ticketId(), tickets[i].getAmount(), vehicles[i],
+                        slots[i], request.paymentMethod().getPaymentType(), null);
+            }
+            results.add(new ExitResult(request.ticketId(), tickets[i] != null ? tickets[i].getAmount() : 0,
+                    statuses[i]));
+        }
+        for (int i = 0; i < size; i++) {
+            if (statuses[i] == ExitResult.Status.EXITED) {
+                admitWaiting(slots[i]);
+            }
+        }
+        metrics.recordBatchSince(Operation.EXIT, ParkingLot.class, start, exited.size());
+        return results;
+    }
+
+    private static boolean[] settle(PaymentMethod paymentMethod, long[] amounts) {
+        try {
+            return paymentMethod.processPayments(amounts);
+        } catch (RuntimeException e) {
+            return new boolean[amounts.length];
+        }
+    }
+
+    private ParkingSlot beginExit(Ticket ticket) {
+        if (!ticket.tryBeginExit()) {
+            throw new IllegalStateException("Exit already in progress for ticket: " + ticket.getTicketId());
+        }
+
+        ParkingSlot slot = slotForExit(ticket);
         if (slot == null) {
             throw new IllegalStateException("Slot not found: " + ticket.getSlotId());
         }
+        return slot;
+    }
+
+    private ParkingSlot slotForExit(Ticket ticket) {
+        ParkingSlot slot = findSlotById(ticket.getSlotId());
+        if (slot == null) {
+            ticket.abortExit();
+        }
+        return slot;
+    }
 
-        Vehicle vehicle = slot.removeVehicle();
-        ticket.setExitTime(LocalDateTime.now());
+    private long priceExit(Ticket ticket, ParkingSlot slot, ParkingMetrics metrics, long start) {
+        PricingStrategy pricing = pricingStrategy;
+        ticket.setAmount(price(pricing, ticket, slot));
+        return metrics.recordSince(Operation.PRICE, pricing.getClass(), start);
+    }
 
-        double amount = pricingStrategy.calculatePrice(ticket, slot, vehicle);
-        ticket.setAmount(amount);
+    private long price(PricingStrategy pricing, Ticket ticket, ParkingSlot slot) {
+        Vehicle vehicle = slot.getParkedVehicle();
+        ChargingScheduler charging = this.charging;
+        if (charging != null && vehicle.isUsingCharging()) {
+            long energyWh = charging.deliveredWh(ticket.getId(), ticket.getExitTimeMillis());
+            if (energyWh >= 0) {
+                ticket.setEnergyWh(energyWh);
+            }
+        }
+        return pricing.calculatePrice(ticket, slot, vehicle);
+    }
 
-        boolean paymentSuccess = paymentMethod.processPayment(amount);
-        if (paymentSuccess) {
+    private boolean completeExit(Ticket ticket, ParkingSlot slot, PaymentMethod paymentMethod) {
+        if (!journalExit(ticket)) {
+            return false;
+        }
+        Vehicle vehicle = releaseExit(ticket, slot);
+        events.publish(EventType.VEHICLE_EXITED, ticket.getId(), ticket.getAmount(), vehicle, slot,
+                paymentMethod.getPaymentType(), null);
+        admitWaiting(slot);
+        return true;
+    }
+
+    private boolean journalExit(Ticket ticket) {
+        ticket.setPaid(true);
+        try {
+            journal.recordExit(ticket);
+            return true;
+        } catch (RuntimeException e) {
+            ticket.abortExit();
+            return false;
+        }
+    }
+
+    private boolean journalExits(List<Ticket> tickets) {
+        for (Ticket ticket : tickets) {
             ticket.setPaid(true);
-            activeTickets.remove(ticketId);
+        }
+        try {
+            journal.recordExits(tickets);
+            return true;
+        } catch (RuntimeException e) {
+            for (Ticket ticket : tickets) {
+                ticket.abortExit();
+            }
+            return false;
+        }
+    }
 
-            System.out.println("Vehicle " + vehicle.getLicensePlate() + " exited successfully");
-            System.out.println("Total amount: $" + String.format("%.2f", amount) +
-                    " (Payment: " + paymentMethod.getPaymentType() + ")");
+    private static IllegalStateException journalFailure(Ticket ticket) {
+        return new IllegalStateException("Could not record exit for ticket: " + ticket.getTicketId());
+    }
 
-            return amount;
-        } else {
-            slot.parkVehicle(vehicle);
-            throw new RuntimeException("Payment failed for ticket: " + ticketId);
+    private Vehicle releaseExit(Ticket ticket, ParkingSlot slot) {
+        ticket.setPaid(true);
+        activeTickets.remove(ticket.getId());
+        ticketsByPlate.remove(ticket.getVehicleLicense(), ticket);
+        ChargingScheduler charging = this.charging;
+        if (charging != null && slot.hasChargingStation()) {
+            charging.unplug(ticket.getId(), ticket.getExitTimeMillis());
+        }
+        return slot.removeVehicle();
+    }
+
+    private void abortExit(Ticket ticket) {
+        ticket.setExitTimeMillis(0);
+        ticket.abortExit();
+    }
+
+    public void restoreTicket(Ticket ticket, Vehicle vehicle) {
+        if (activeTickets.containsKey(ticket.getId())) {
+            return;
+        }
+        ParkingSlot slot = findSlotById(ticket.getSlotId());
+        if (slot == null) {
+            throw new IllegalStateException("Slot not found: " + ticket.getSlotId());
+        }
+        if (!slot.tryPark(vehicle)) {
+            throw new IllegalStateException("Cannot restore " + ticket.getTicketId() + " into slot " + slot.getSlotId());
         }
+        activeTickets.put(ticket.getId(), ticket);
+        ticketsByPlate.put(ticket.getVehicleLicense(), ticket);
+    }
+
+    public boolean discardTicket(long ticketId) {
+        Ticket ticket = activeTickets.remove(ticketId);
+        if (ticket == null) {
+            return false;
+        }
+        ticketsByPlate.remove(ticket.getVehicleLicense(), ticket);
+        ChargingScheduler charging = this.charging;
+        if (charging != null) {
+            charging.unplug(ticket.getId(), clock.currentTimeMillis());
+        }
+        ParkingSlot slot = findSlotById(ticket.getSlotId());
+        if (slot != null) {
+            slot.removeVehicle();
+        }
+        return true;
+    }
+
+    public void forEachActiveTicket(Consumer<Ticket> action) {
+        activeTickets.values().forEach(action);
+    }
+
+    public Ticket getTicket(long ticketId) {
+        return activeTickets.get(ticketId);
+    }
+
+    public Ticket findTicketByPlate(String licensePlate) {
+        return ticketsByPlate.get(licensePlate);
+    }
+
+    public ParkingSlot findSlotByPlate(String licensePlate) {
+        Ticket ticket = ticketsByPlate.get(licensePlate);
+        return ticket != null ? findSlotById(ticket.getSlotId()) : null;
+    }
+
+    public ParkingSlot getSlot(String slotId) {
+        return findSlotById(slotId);
     }
 
     private ParkingSlot findSlotById(String slotId) {
-        return slots.stream()
-                .filter(slot -> slot.getSlotId().equals(slotId))
-                .findFirst()
-                .orElse(null);
+        return slotsById.get(slotId);
     }
 
-    public void displayAvailability() {
-        Map<SlotType, Long> availability = new HashMap<>();
-        Map<SlotType, Long> occupied = new HashMap<>();
+    public AvailabilitySnapshot getAvailability() {
+        return occupancy.snapshot(name, activeTickets.size());
+    }
 
-        for (SlotType type : SlotType.values()) {
-            long availableCount = slots.stream()
-                    .filter(slot -> slot.getType() == type && !slot.isOccupied())
-                    .count();
-            long occupiedCount = slots.stream()
-                    .filter(slot -> slot.getType() == type && slot.isOccupied())
-                    .count();
+    public double getOccupancy(SlotType type) {
+        return occupancy.occupancy(type);
+    }
 
-            availability.put(type, availableCount);
-            occupied.put(type, occupiedCount);
-        }
+    public void displayAvailability() {
+        AvailabilitySnapshot snapshot = getAvailability();
 
         System.out.println("\n === " + name + " Availability ===");
         for (SlotType type : SlotType.values()) {
-            long avail = availability.get(type);
-            long occ = occupied.get(type);
-            long total = avail + occ;
+            AvailabilitySnapshot.SlotCount count = snapshot.slotType(type);
             System.out.printf("%-12s: %d/%d available (%.1f%% occupancy)\n",
-                    type, avail, total, total > 0 ? (occ * 100.0 / total) : 0);
+                    type, count.available(), count.total(), count.occupancyPercent());
         }
 
-        long chargingAvailable = slots.stream()
-                .filter(slot -> slot.hasChargingStation() && !slot.isOccupied())
-                .count();
-        long chargingTotal = slots.stream()
-                .filter(ParkingSlot::hasChargingStation)
-                .count();
-
-        System.out.printf("Charging   : %d/%d available\n", chargingAvailable, chargingTotal);
-        System.out.println("Active Tickets: " + activeTickets.size());
+        AvailabilitySnapshot.SlotCount charging = snapshot.charging();
+        System.out.printf("Charging   : %d/%d available\n", charging.available(), charging.total());
+        System.out.println("Active Tickets: " + snapshot.activeTickets());
     }
 
     public String getName() { return name; }
-    public List<ParkingSlot> getSlots() { return new ArrayList<>(slots); }
-    public Map<String, Ticket> getActiveTickets() { return new HashMap<>(activeTickets); }
+    public FreeSlotIndex getFreeSlots() { return freeSlots; }
+    public ReservationBook getReservations() { return reservations; }
+    public int getSlotCount() { return slotTable.size(); }
+
+    public List<ParkingSlot> getSlots() {
+        SlotTable table = slotTable;
+        return Collections.unmodifiableList(Arrays.asList(table.slots()).subList(0, table.size()));
+    }
+
+    public SlotQuery querySlots() {
+        SlotTable table = slotTable;
+        return new SlotQuery(table.slots(), table.size(), freeSlots);
+    }
+
+    public Map<String, Ticket> getActiveTickets() {
+        return activeTicketView;
+    }
+
+    public Collection<Ticket> getTickets() {
+        return Collections.unmodifiableCollection(activeTickets.values());
+    }
+
+    private record SlotTable(ParkingSlot[] slots, int size) {
+    }
 }
@@ -1,64 +1,157 @@
 package org.example.models;
 
 import org.example.enums.SlotType;
-import org.example.models.vehicle.ElectricCar;
+import org.example.models.vehicle.ElectricVehicle;
 import org.example.models.vehicle.Vehicle;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 public class ParkingSlot {
     private final String slotId;
     private final SlotType type;
     private final int floor;
     private final boolean hasChargingStation;
-    private Vehicle parkedVehicle;
-    private boolean isOccupied;
+    private final int slotClass;
+    private final AtomicReference<Object> occupant;
+    private volatile FreeSlotIndex index;
+    private volatile OccupancyCounters counters;
+    int ordinal = -1;
+    boolean indexedFree;
+    int densePosition = -1;
 
     public ParkingSlot(String slotId, SlotType type, int floor, boolean hasChargingStation) {
         this.slotId = slotId;
         this.type = type;
         this.floor = floor;
         this.hasChargingStation = hasChargingStation;
-        this.isOccupied = false;
+        this.slotClass = type.classIndex(hasChargingStation);
+        this.occupant = new AtomicReference<>();
     }
 
     public boolean canFit(Vehicle vehicle) {
-        return !isOccupied && type.canFit(vehicle.getType()) &&
-                (!vehicle.isElectric() || hasChargingStation);
+        return isAvailable() && vehicle.getType().accepts(slotClass);
     }
 
     public void parkVehicle(Vehicle vehicle) {
-        if (!canFit(vehicle)) {
+        if (!tryPark(vehicle)) {
             throw new IllegalStateException("Cannot park vehicle in this slot");
         }
-        this.parkedVehicle = vehicle;
-        this.isOccupied = true;
+    }
 
-        if (vehicle.isElectric() && hasChargingStation) {
-            if (vehicle instanceof ElectricCar) {
-                ((ElectricCar) vehicle).setUsingCharging(true);
-            }
+    public boolean tryPark(Vehicle vehicle) {
+        if (!canFit(vehicle) || !occupant.compareAndSet(null, vehicle)) {
+            return false;
         }
+        onTaken();
+        startCharging(vehicle);
+        return true;
     }
 
-    public Vehicle removeVehicle() {
-        Vehicle vehicle = parkedVehicle;
-        parkedVehicle = null;
-        isOccupied = false;
+    boolean tryHold(Reservation reservation) {
+        if (!occupant.compareAndSet(null, reservation)) {
+            return false;
+        }
+        onTaken();
+        return true;
+    }
+
+    boolean parkHeld(Reservation reservation, Vehicle vehicle) {
+        if (!vehicle.getType().accepts(slotClass) || !occupant.compareAndSet(reservation, vehicle)) {
+            return false;
+        }
+        startCharging(vehicle);
+        return true;
+    }
 
-        if (vehicle != null && vehicle.isElectric()) {
-            if (vehicle instanceof ElectricCar) {
-                ((ElectricCar) vehicle).setUsingCharging(false);
+    boolean restoreHold(Vehicle vehicle, Reservation reservation) {
+        if (!occupant.compareAndSet(vehicle, reservation)) {
+            return false;
+        }
+        if (vehicle instanceof ElectricVehicle) {
+            ((ElectricVehicle) vehicle).setUsingCharging(false);
+        }
+        return true;
+    }
+
+    boolean releaseHold(Reservation reservation) {
+        if (!occupant.compareAndSet(reservation, null)) {
+            return false;
+        }
+        onFreed();
+        return true;
+    }
+
+    private void onTaken() {
+        OccupancyCounters counters = this.counters;
+        if (counters != null) {
+            counters.onParked(this);
+        }
+        FreeSlotIndex index = this.index;
+        if (index != null) {
+            index.sync(this);
+        }
+    }
+
+    private void onFreed() {
+        OccupancyCounters counters = this.counters;
+        if (counters != null) {
+            counters.onFreed(this);
+        }
+        FreeSlotIndex index = this.index;
+        if (index != null) {
+            index.sync(this);
+        }
+    }
+
+    private void startCharging(Vehicle vehicle) {
+        if (vehicle instanceof ElectricVehicle && hasChargingStation) {
+            ((ElectricVehicle) vehicle).setUsingCharging(true);
+        }
+    }
+
+    public Vehicle removeVehicle() {
+        Object current;
+        do {
+            current = occupant.get();
+            if (!(current instanceof Vehicle)) {
+                return null;
             }
+        } while (!occupant.compareAndSet(current, null));
+        Vehicle vehicle = (Vehicle) current;
+        onFreed();
+
+        if (vehicle instanceof ElectricVehicle) {
+            ((ElectricVehicle) vehicle).setUsingCharging(false);
         }
 
         return vehicle;
     }
 
+    void attach(FreeSlotIndex index, OccupancyCounters counters) {
+        counters.onAdded(this);
+        this.counters = counters;
+        this.index = index;
+        index.register(this);
+    }
+
     public String getSlotId() { return slotId; }
     public SlotType getType() { return type; }
     public int getFloor() { return floor; }
     public boolean hasChargingStation() { return hasChargingStation; }
-    public boolean isOccupied() { return isOccupied; }
-    public Vehicle getParkedVehicle() { return parkedVehicle; }
+    public int getSlotClass() { return slotClass; }
+    public boolean isOccupied() { return occupant.get() instanceof Vehicle; }
+    public boolean isHeld() { return occupant.get() instanceof Reservation; }
+    public boolean isAvailable() { return occupant.get() == null; }
+
+    public Vehicle getParkedVehicle() {
+        Object current = occupant.get();
+        return current instanceof Vehicle ? (Vehicle) current : null;
+    }
+
+    public Reservation getReservation() {
+        Object current = occupant.get();
+        return current instanceof Reservation ? (Reservation) current : null;
+    }
 
     @Override
     public String toString() {
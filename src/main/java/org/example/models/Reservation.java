@@ -0,0 +1,52 @@
+package org.example.models;
+
+import org.example.enums.SlotType;
+import org.example.util.HierarchicalTimingWheel;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+public class Reservation {
+    public enum Status {
+        ACTIVE,
+        FULFILLED,
+        CANCELLED,
+        EXPIRED
+    }
+
+    private final long id;
+    private final ParkingSlot slot;
+    private final long createdAtMillis;
+    private final long expiresAtMillis;
+    private final AtomicReference<Status> status;
+    HierarchicalTimingWheel.Timeout<Reservation> timeout;
+
+    Reservation(long id, ParkingSlot slot, long createdAtMillis, long expiresAtMillis) {
+        this.id = id;
+        this.slot = slot;
+        this.createdAtMillis = createdAtMillis;
+        this.expiresAtMillis = expiresAtMillis;
+        this.status = new AtomicReference<>(Status.ACTIVE);
+    }
+
+    boolean transition(Status from, Status to) {
+        return status.compareAndSet(from, to);
+    }
+
+    public long getId() { return id; }
+    public ParkingSlot getSlot() { return slot; }
+    public SlotType getSlotType() { return slot.getType(); }
+    public boolean isCharging() { return slot.hasChargingStation(); }
+    public long getCreatedAtMillis() { return createdAtMillis; }
+    public long getExpiresAtMillis() { return expiresAtMillis; }
+    public Status getStatus() { return status.get(); }
+    public boolean isActive() { return status.get() == Status.ACTIVE; }
+
+    public String getReservationId() {
+        return "RES-" + id;
+    }
+
+    @Override
+    public String toString() {
+        return getReservationId() + " (" + slot.getSlotId() + ", " + getStatus() + ")";
+    }
+}
@@ -0,0 +1,154 @@
+package org.example.models;
+
+import org.example.models.vehicle.Vehicle;
+import org.example.util.HierarchicalTimingWheel;
+import org.example.util.LotClock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Outstanding slot holds for one lot. A hold takes the slot out of the free index exactly like a
+ * parked vehicle, so allocation strategies never see it. No-shows are released by a
+ * {@link HierarchicalTimingWheel} with one-second ticks over four 64-bucket levels (about 194 days
+ * of range), so expiry costs O(1) per tick regardless of how many holds are outstanding. The wheel
+ * starts at the lot clock's time of the first hold and advances on {@link #expire(long)}, either
+ * from {@link #startExpiry(Duration)} or the caller.
+ */
+public class ReservationBook implements AutoCloseable {
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_LEVELS = 4;
+
+    private final FreeSlotIndex freeSlots;
+    private final Map<Long, Reservation> active;
+    private final AtomicLong nextId;
+    private final LotClock clock;
+    private final Consumer<Reservation> onExpired;
+    private final Object wheelLock = new Object();
+    private HierarchicalTimingWheel<Reservation> wheel;
+    private ScheduledExecutorService ticker;
+
+    ReservationBook(FreeSlotIndex freeSlots, LotClock clock, Consumer<Reservation> onExpired) {
+        this.freeSlots = freeSlots;
+        this.active = new ConcurrentHashMap<>();
+        this.nextId = new AtomicLong();
+        this.clock = clock;
+        this.onExpired = onExpired;
+    }
+
+    Reservation hold(int slotClass, long nowMillis, long expiresAtMillis) {
+        long id = nextId.incrementAndGet();
+        Reservation reservation;
+        do {
+            ParkingSlot slot = freeSlots.firstFree(slotClass);
+            if (slot == null) {
+                return null;
+            }
+            reservation = new Reservation(id, slot, nowMillis, expiresAtMillis);
+        } while (!reservation.getSlot().tryHold(reservation));
+
+        active.put(id, reservation);
+        synchronized (wheelLock) {
+            if (wheel == null) {
+                wheel = new HierarchicalTimingWheel<>(TICK_MILLIS, WHEEL_BITS, WHEEL_LEVELS, nowMillis);
+            }
+            reservation.timeout = wheel.schedule(reservation, expiresAtMillis);
+        }
+        return reservation;
+    }
+
+    boolean claim(Reservation reservation, Vehicle vehicle, long nowMillis) {
+        if (nowMillis >= reservation.getExpiresAtMillis() ||
+                !vehicle.getType().accepts(reservation.getSlot().getSlotClass()) ||
+                !reservation.transition(Reservation.Status.ACTIVE, Reservation.Status.FULFILLED)) {
+            return false;
+        }
+        reservation.getSlot().parkHeld(reservation, vehicle);
+        retire(reservation);
+        return true;
+    }
+
+    void unclaim(Reservation reservation, Vehicle vehicle) {
+        if (!reservation.getSlot().restoreHold(vehicle, reservation) ||
+                !reservation.transition(Reservation.Status.FULFILLED, Reservation.Status.ACTIVE)) {
+            return;
+        }
+        active.put(reservation.getId(), reservation);
+        synchronized (wheelLock) {
+            reservation.timeout = wheel.schedule(reservation, reservation.getExpiresAtMillis());
+        }
+    }
+
+    boolean release(Reservation reservation, Reservation.Status outcome) {
+        if (!reservation.transition(Reservation.Status.ACTIVE, outcome)) {
+            return false;
+        }
+        reservation.getSlot().releaseHold(reservation);
+        retire(reservation);
+        return true;
+    }
+
+    private void retire(Reservation reservation) {
+        active.remove(reservation.getId());
+        synchronized (wheelLock) {
+            if (reservation.timeout != null) {
+                wheel.cancel(reservation.timeout);
+            }
+        }
+    }
+
+    public int expire(long nowMillis) {
+        List<Reservation> due = new ArrayList<>();
+        synchronized (wheelLock) {
+            if (wheel != null) {
+                wheel.advance(nowMillis, due::add);
+            }
+        }
+        int expired = 0;
+        for (Reservation reservation : due) {
+            if (release(reservation, Reservation.Status.EXPIRED)) {
+                onExpired.accept(reservation);
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    public Reservation get(long reservationId) {
+        return active.get(reservationId);
+    }
+
+    public int activeCount() {
+        return active.size();
+    }
+
+    public synchronized void startExpiry(Duration tick) {
+        if (ticker != null) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reservation-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(() -> expire(clock.currentTimeMillis()),
+                tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (ticker != null) {
+            ticker.shutdown();
+            ticker = null;
+        }
+    }
+}
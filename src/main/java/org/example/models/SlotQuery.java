@@ -0,0 +1,133 @@
+package org.example.models;
+
+import org.example.enums.SlotType;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Filtered iteration over a lot's slots without intermediate lists. Available-slot queries walk the
+ * free-slot bitsets and floor queries walk the floor-ordered index layout, so neither visits slots
+ * outside the match; other filters scan the slot snapshot taken when the query was created.
+ */
+public final class SlotQuery {
+    public enum State {
+        AVAILABLE,
+        OCCUPIED,
+        HELD
+    }
+
+    private static final int ALL_CLASSES = (1 << SlotType.CLASS_COUNT) - 1;
+    private static final int CHARGING_CLASSES;
+
+    static {
+        int charging = 0;
+        for (int c = 0; c < SlotType.CLASS_COUNT; c++) {
+            if (SlotType.isChargingClass(c)) {
+                charging |= 1 << c;
+            }
+        }
+        CHARGING_CLASSES = charging;
+    }
+
+    private final ParkingSlot[] slots;
+    private final int size;
+    private final FreeSlotIndex index;
+    private int classMask = ALL_CLASSES;
+    private boolean anyFloor = true;
+    private int floor;
+    private State state;
+
+    SlotQuery(ParkingSlot[] slots, int size, FreeSlotIndex index) {
+        this.slots = slots;
+        this.size = size;
+        this.index = index;
+    }
+
+    public SlotQuery onFloor(int floor) {
+        this.anyFloor = false;
+        this.floor = floor;
+        return this;
+    }
+
+    public SlotQuery ofType(SlotType type) {
+        classMask &= (1 << type.classIndex(false)) | (1 << type.classIndex(true));
+        return this;
+    }
+
+    public SlotQuery withCharging(boolean charging) {
+        classMask &= charging ? CHARGING_CLASSES : ALL_CLASSES & ~CHARGING_CLASSES;
+        return this;
+    }
+
+    public SlotQuery in(State state) {
+        this.state = state;
+        return this;
+    }
+
+    public SlotQuery available() {
+        return in(State.AVAILABLE);
+    }
+
+    public SlotQuery occupied() {
+        return in(State.OCCUPIED);
+    }
+
+    public void forEach(Consumer<? super ParkingSlot> action) {
+        if (state != State.AVAILABLE && anyFloor) {
+            for (int i = 0; i < size; i++) {
+                if (matches(slots[i])) {
+                    action.accept(slots[i]);
+                }
+            }
+            return;
+        }
+        Consumer<ParkingSlot> filtered = slot -> {
+            if (matches(slot)) {
+                action.accept(slot);
+            }
+        };
+        if (state != State.AVAILABLE) {
+            index.forEachOnFloor(floor, filtered);
+        } else if (anyFloor) {
+            index.forEachFree(classMask, filtered);
+        } else {
+            index.forEachFreeOnFloor(classMask, floor, filtered);
+        }
+    }
+
+    public long count() {
+        if (state == State.AVAILABLE && anyFloor) {
+            long free = 0;
+            for (int classes = classMask; classes != 0; classes &= classes - 1) {
+                free += index.freeCount(Integer.numberOfTrailingZeros(classes));
+            }
+            return free;
+        }
+        long[] count = new long[1];
+        forEach(slot -> count[0]++);
+        return count[0];
+    }
+
+    public Stream<ParkingSlot> stream() {
+        return Arrays.stream(slots, 0, size).filter(this::matches);
+    }
+
+    public boolean matches(ParkingSlot slot) {
+        if ((classMask & (1 << slot.getSlotClass())) == 0 || (!anyFloor && slot.getFloor() != floor)) {
+            return false;
+        }
+        if (state == null) {
+            return true;
+        }
+        switch (state) {
+            case AVAILABLE:
+                return slot.isAvailable();
+            case OCCUPIED:
+                return slot.isOccupied();
+            default:
+                return slot.isHeld();
+        }
+    }
+}
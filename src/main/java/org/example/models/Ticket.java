@@ -1,46 +1,117 @@
 package org.example.models;
 
+import org.example.strategy.ticketid.TicketIdGenerator;
+import org.example.util.LotClock;
+import org.example.util.Money;
+
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.concurrent.atomic.AtomicLong;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class Ticket {
-    private static final AtomicLong ticketCounter = new AtomicLong(1);
+    private static final String ID_PREFIX = "TICKET-";
+    private static final int ID_RADIX = 36;
+    private static final long UNMETERED = -1;
 
-    private final String ticketId;
+    private final long id;
+    private String ticketId;
     private final String vehicleLicense;
     private final String slotId;
-    private final LocalDateTime entryTime;
-    private LocalDateTime exitTime;
-    private double amount;
+    private final long entryTimeMillis;
+    private long exitTimeMillis;
+    private long amount;
+    private long energyWh;
     private boolean isPaid;
+    private volatile long exitSeq;
+    private final AtomicBoolean exiting;
 
     public Ticket(String vehicleLicense, String slotId) {
-        this.ticketId = "TICKET-" + String.format("%06d", ticketCounter.getAndIncrement());
+        this(TicketIdGenerator.shared().nextId(), vehicleLicense, slotId);
+    }
+
+    public Ticket(long id, String vehicleLicense, String slotId) {
+        this(id, vehicleLicense, slotId, LotClock.SYSTEM);
+    }
+
+    public Ticket(long id, String vehicleLicense, String slotId, LotClock clock) {
+        this(id, vehicleLicense, slotId, clock.currentTimeMillis());
+    }
+
+    public Ticket(long id, String vehicleLicense, String slotId, long entryTimeMillis) {
+        this.id = id;
         this.vehicleLicense = vehicleLicense;
         this.slotId = slotId;
-        this.entryTime = LocalDateTime.now();
+        this.entryTimeMillis = entryTimeMillis;
+        this.energyWh = UNMETERED;
         this.isPaid = false;
+        this.exiting = new AtomicBoolean();
     }
 
-    public String getTicketId() { return ticketId; }
+    public long getId() { return id; }
     public String getVehicleLicense() { return vehicleLicense; }
     public String getSlotId() { return slotId; }
-    public LocalDateTime getEntryTime() { return entryTime; }
-    public LocalDateTime getExitTime() { return exitTime; }
-    public void setExitTime(LocalDateTime exitTime) { this.exitTime = exitTime; }
-    public double getAmount() { return amount; }
-    public void setAmount(double amount) { this.amount = amount; }
+    public long getEntryTimeMillis() { return entryTimeMillis; }
+    public long getExitTimeMillis() { return exitTimeMillis; }
+    public void setExitTimeMillis(long exitTimeMillis) { this.exitTimeMillis = exitTimeMillis; }
+    public boolean hasExited() { return exitTimeMillis != 0; }
+    public long getDurationMillis() { return exitTimeMillis - entryTimeMillis; }
+    public long getEnergyWh() { return energyWh; }
+    public void setEnergyWh(long energyWh) { this.energyWh = energyWh; }
+    public boolean isMetered() { return energyWh != UNMETERED; }
+    public long getAmount() { return amount; }
+    public void setAmount(long amount) { this.amount = amount; }
     public boolean isPaid() { return isPaid; }
     public void setPaid(boolean paid) { isPaid = paid; }
+    public long getExitSeq() { return exitSeq; }
+    public void setExitSeq(long exitSeq) { this.exitSeq = exitSeq; }
+    public boolean tryBeginExit() { return exiting.compareAndSet(false, true); }
+    public void abortExit() { exiting.set(false); }
+
+    public String getTicketId() {
+        String formatted = ticketId;
+        if (formatted == null) {
+            formatted = formatId(id);
+            ticketId = formatted;
+        }
+        return formatted;
+    }
+
+    public static String formatId(long id) {
+        return ID_PREFIX + Long.toString(id, ID_RADIX).toUpperCase();
+    }
+
+    public static long parseId(String ticketId) {
+        if (ticketId == null || !ticketId.startsWith(ID_PREFIX)) {
+            throw new IllegalArgumentException("Invalid ticket ID: " + ticketId);
+        }
+        try {
+            return Long.parseLong(ticketId.substring(ID_PREFIX.length()), ID_RADIX);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid ticket ID: " + ticketId, e);
+        }
+    }
+
+    public LocalDateTime getEntryTime() {
+        return toLocalDateTime(entryTimeMillis);
+    }
+
+    public LocalDateTime getExitTime() {
+        return hasExited() ? toLocalDateTime(exitTimeMillis) : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
 
     @Override
     public String toString() {
         return "Ticket{" +
-                "id='" + ticketId + '\'' +
+                "id='" + getTicketId() + '\'' +
                 ", vehicle='" + vehicleLicense + '\'' +
                 ", slot='" + slotId + '\'' +
-                ", entryTime=" + entryTime +
-                ", amount=" + amount +
+                ", entryTime=" + getEntryTime() +
+                ", amount=" + Money.format(amount) +
                 ", paid=" + isPaid +
                 '}';
     }
@@ -2,19 +2,11 @@ package org.example.models.vehicle;
 
 import org.example.enums.VehicleType;
 
-public class ElectricCar extends Vehicle {
-    private boolean usingCharging;
+public class ElectricCar extends ElectricVehicle {
+    private static final long BATTERY_CAPACITY_WH = 60_000;
+    private static final long MAX_CHARGING_WATTS = 11_000;
 
     public ElectricCar(String licensePlate) {
-        super(licensePlate, VehicleType.ELECTRIC_CAR);
-        this.usingCharging = false;
-    }
-
-    public boolean isUsingCharging() {
-        return usingCharging;
-    }
-
-    public void setUsingCharging(boolean usingCharging) {
-        this.usingCharging = usingCharging;
+        super(licensePlate, VehicleType.ELECTRIC_CAR, BATTERY_CAPACITY_WH, MAX_CHARGING_WATTS);
     }
 }
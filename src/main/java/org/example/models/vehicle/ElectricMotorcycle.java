@@ -0,0 +1,12 @@
+package org.example.models.vehicle;
+
+import org.example.enums.VehicleType;
+
+public class ElectricMotorcycle extends ElectricVehicle {
+    private static final long BATTERY_CAPACITY_WH = 12_000;
+    private static final long MAX_CHARGING_WATTS = 3_300;
+
+    public ElectricMotorcycle(String licensePlate) {
+        super(licensePlate, VehicleType.ELECTRIC_MOTORCYCLE, BATTERY_CAPACITY_WH, MAX_CHARGING_WATTS);
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.models.vehicle;
+
+import org.example.enums.VehicleType;
+
+public abstract class ElectricVehicle extends Vehicle {
+    private final long batteryCapacityWh;
+    private final long maxChargingWatts;
+    private volatile double stateOfCharge;
+    private volatile boolean usingCharging;
+
+    protected ElectricVehicle(String licensePlate, VehicleType type, long batteryCapacityWh, long maxChargingWatts) {
+        super(licensePlate, type);
+        this.batteryCapacityWh = batteryCapacityWh;
+        this.maxChargingWatts = maxChargingWatts;
+        this.stateOfCharge = 0.2;
+    }
+
+    @Override
+    public boolean isUsingCharging() {
+        return usingCharging;
+    }
+
+    public void setUsingCharging(boolean usingCharging) {
+        this.usingCharging = usingCharging;
+    }
+
+    public long getBatteryCapacityWh() {
+        return batteryCapacityWh;
+    }
+
+    public long getMaxChargingWatts() {
+        return maxChargingWatts;
+    }
+
+    public double getStateOfCharge() {
+        return stateOfCharge;
+    }
+
+    public void setStateOfCharge(double stateOfCharge) {
+        if (stateOfCharge < 0 || stateOfCharge > 1) {
+            throw new IllegalArgumentException("State of charge must be between 0 and 1: " + stateOfCharge);
+        }
+        this.stateOfCharge = stateOfCharge;
+    }
+
+    public long getEnergyNeededWh() {
+        return Math.round(batteryCapacityWh * (1 - stateOfCharge));
+    }
+}
@@ -20,7 +20,11 @@ public abstract class Vehicle {
     }
 
     public boolean isElectric() {
-        return type == VehicleType.ELECTRIC_CAR || type == VehicleType.ELECTRIC_MOTORCYCLE;
+        return type.isElectric();
+    }
+
+    public boolean isUsingCharging() {
+        return false;
     }
 
     @Override
@@ -0,0 +1,25 @@
+package org.example.models.vehicle;
+
+import org.example.enums.VehicleType;
+
+public final class VehicleFactory {
+    private VehicleFactory() {
+    }
+
+    public static Vehicle create(VehicleType type, String licensePlate) {
+        switch (type) {
+            case MOTORCYCLE:
+                return new Motorcycle(licensePlate);
+            case CAR:
+                return new Car(licensePlate);
+            case TRUCK:
+                return new Truck(licensePlate);
+            case ELECTRIC_CAR:
+                return new ElectricCar(licensePlate);
+            case ELECTRIC_MOTORCYCLE:
+                return new ElectricMotorcycle(licensePlate);
+            default:
+                throw new IllegalArgumentException("Unsupported vehicle type: " + type);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.payment;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncPaymentProcessor implements AutoCloseable {
+    private final ExecutorService executor;
+    private final Duration timeout;
+
+    public AsyncPaymentProcessor(Duration timeout) {
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.timeout = timeout;
+    }
+
+    /**
+     * Runs the payment on a virtual thread. The returned future completes with the processor's own
+     * answer, however long that takes.
+     */
+    public CompletableFuture<PaymentResult> submit(PaymentMethod method, long amount) {
+        String paymentType = method.getPaymentType();
+        return CompletableFuture
+                .supplyAsync(() -> method.processPayment(amount)
+                        ? PaymentResult.approved(amount, paymentType)
+                        : PaymentResult.declined(amount, paymentType), executor)
+                .exceptionally(e -> PaymentResult.failed(amount, paymentType,
+                        e instanceof CompletionException && e.getCause() != null ? e.getCause() : e));
+    }
+
+    /**
+     * Returns a view of {@code payment} that completes with {@link PaymentResult.Status#TIMED_OUT} if it
+     * has not settled within the timeout. Timing out the view does not touch {@code payment}: the charge
+     * may still go through, and its real result still arrives there.
+     */
+    public CompletableFuture<PaymentResult> withTimeout(CompletableFuture<PaymentResult> payment, long amount,
+                                                        String paymentType) {
+        return payment.copy().completeOnTimeout(PaymentResult.timedOut(amount, paymentType),
+                timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
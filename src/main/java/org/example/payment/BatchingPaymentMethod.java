@@ -0,0 +1,106 @@
+package org.example.payment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects concurrent {@link #processPayment} calls and hands them to the delegate's
+ * {@link PaymentMethod#processPayments} in batches. Callers block until their batch settles,
+ * which is cheap when they run on virtual threads via {@link AsyncPaymentProcessor}. Closing fails every
+ * request that has not been handed to the delegate yet; a caller that races with close either gets its
+ * request drained and failed, or takes it back out of the queue itself.
+ */
+public class BatchingPaymentMethod implements PaymentMethod, AutoCloseable {
+    private final PaymentMethod delegate;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final BlockingQueue<Request> queue;
+    private final Thread drainer;
+    private volatile boolean closed;
+
+    private record Request(long amount, CompletableFuture<Boolean> result) {
+    }
+
+    public BatchingPaymentMethod(PaymentMethod delegate, int maxBatchSize, Duration maxDelay) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + maxBatchSize);
+        }
+        this.delegate = delegate;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.queue = new LinkedBlockingQueue<>();
+        this.drainer = Thread.ofVirtual().name("payment-batcher-" + delegate.getPaymentType()).start(this::drain);
+    }
+
+    @Override
+    public boolean processPayment(long amount) {
+        if (closed) {
+            throw new IllegalStateException("Batching payment method is closed");
+        }
+        Request request = new Request(amount, new CompletableFuture<>());
+        queue.add(request);
+        if (closed && queue.remove(request)) {
+            throw new IllegalStateException("Batching payment method is closed");
+        }
+        return request.result().join();
+    }
+
+    @Override
+    public String getPaymentType() {
+        return delegate.getPaymentType();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        drainer.interrupt();
+    }
+
+    private void drain() {
+        List<Request> batch = List.of();
+        try {
+            while (!closed) {
+                batch = new ArrayList<>(maxBatchSize);
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    Request next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                List<Request> ready = batch;
+                batch = List.of();
+                Thread.ofVirtual().start(() -> settle(ready));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            List<Request> abandoned = new ArrayList<>(batch);
+            queue.drainTo(abandoned);
+            IllegalStateException shutdown = new IllegalStateException("Batching payment method closed");
+            abandoned.forEach(request -> request.result().completeExceptionally(shutdown));
+        }
+    }
+
+    private void settle(List<Request> batch) {
+        long[] amounts = new long[batch.size()];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = batch.get(i).amount();
+        }
+        try {
+            boolean[] results = delegate.processPayments(amounts);
+            for (int i = 0; i < amounts.length; i++) {
+                batch.get(i).result().complete(results[i]);
+            }
+        } catch (RuntimeException e) {
+            batch.forEach(request -> request.result().completeExceptionally(e));
+        }
+    }
+}
@@ -1,20 +1,30 @@
 package org.example.payment;
 
+import org.example.events.EventSink;
+import org.example.events.EventType;
+
 public class CardPayment implements PaymentMethod {
     private final String cardNumber;
+    private final String eventDetail;
+    private final EventSink events;
 
     public CardPayment() {
-        this.cardNumber = "**** **** **** 1234";
+        this("**** **** **** 1234");
     }
 
     public CardPayment(String cardNumber) {
+        this(cardNumber, EventSink.console());
+    }
+
+    public CardPayment(String cardNumber, EventSink events) {
         this.cardNumber = cardNumber;
+        this.eventDetail = " using card " + cardNumber;
+        this.events = events;
     }
 
     @Override
-    public boolean processPayment(double amount) {
-        System.out.println("Processing card payment of $" + String.format("%.2f", amount) +
-                " using card " + cardNumber);
+    public boolean processPayment(long amount) {
+        events.publish(EventType.PAYMENT_PROCESSED, 0, amount, null, null, getPaymentType(), eventDetail);
         return true;
     }
 
@@ -1,9 +1,22 @@
 package org.example.payment;
 
+import org.example.events.EventSink;
+import org.example.events.EventType;
+
 public class CashPayment implements PaymentMethod {
+    private final EventSink events;
+
+    public CashPayment() {
+        this(EventSink.console());
+    }
+
+    public CashPayment(EventSink events) {
+        this.events = events;
+    }
+
     @Override
-    public boolean processPayment(double amount) {
-        System.out.println("Processing cash payment of $" + String.format("%.2f", amount));
+    public boolean processPayment(long amount) {
+        events.publish(EventType.PAYMENT_PROCESSED, 0, amount, null, null, getPaymentType(), "");
         return true;
     }
 
@@ -1,20 +1,30 @@
 package org.example.payment;
 
+import org.example.events.EventSink;
+import org.example.events.EventType;
+
 public class DigitalPayment implements PaymentMethod {
     private final String walletType;
+    private final String eventDetail;
+    private final EventSink events;
 
     public DigitalPayment() {
-        this.walletType = "DefaultWallet";
+        this("DefaultWallet");
     }
 
     public DigitalPayment(String walletType) {
+        this(walletType, EventSink.console());
+    }
+
+    public DigitalPayment(String walletType, EventSink events) {
         this.walletType = walletType;
+        this.eventDetail = " via " + walletType;
+        this.events = events;
     }
 
     @Override
-    public boolean processPayment(double amount) {
-        System.out.println("Processing digital payment of $" + String.format("%.2f", amount) +
-                " via " + walletType);
+    public boolean processPayment(long amount) {
+        events.publish(EventType.PAYMENT_PROCESSED, 0, amount, null, null, getPaymentType(), eventDetail);
         return true;
     }
 
@@ -1,6 +1,14 @@
 package org.example.payment;
 
 public interface PaymentMethod {
-    boolean processPayment(double amount);
+    boolean processPayment(long amount);
     String getPaymentType();
+
+    default boolean[] processPayments(long[] amounts) {
+        boolean[] results = new boolean[amounts.length];
+        for (int i = 0; i < amounts.length; i++) {
+            results[i] = processPayment(amounts[i]);
+        }
+        return results;
+    }
 }
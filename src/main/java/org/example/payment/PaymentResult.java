@@ -0,0 +1,26 @@
+package org.example.payment;
+
+public record PaymentResult(Status status, long amount, String paymentType, String failureReason) {
+
+    public enum Status { APPROVED, DECLINED, TIMED_OUT, FAILED }
+
+    public static PaymentResult approved(long amount, String paymentType) {
+        return new PaymentResult(Status.APPROVED, amount, paymentType, null);
+    }
+
+    public static PaymentResult declined(long amount, String paymentType) {
+        return new PaymentResult(Status.DECLINED, amount, paymentType, "Payment declined");
+    }
+
+    public static PaymentResult timedOut(long amount, String paymentType) {
+        return new PaymentResult(Status.TIMED_OUT, amount, paymentType, "Payment still pending");
+    }
+
+    public static PaymentResult failed(long amount, String paymentType, Throwable cause) {
+        return new PaymentResult(Status.FAILED, amount, paymentType, String.valueOf(cause.getMessage()));
+    }
+
+    public boolean isSuccess() {
+        return status == Status.APPROVED;
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.payment;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+public class SimulatedLatencyPayment implements PaymentMethod {
+    private final Duration latency;
+    private final double declineRate;
+    private final SplittableRandom random;
+
+    public SimulatedLatencyPayment(Duration latency) {
+        this(latency, 0.0, 42);
+    }
+
+    public SimulatedLatencyPayment(Duration latency, double declineRate, long seed) {
+        this.latency = latency;
+        this.declineRate = declineRate;
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public boolean processPayment(long amount) {
+        sleep();
+        return approve();
+    }
+
+    @Override
+    public boolean[] processPayments(long[] amounts) {
+        sleep();
+        boolean[] results = new boolean[amounts.length];
+        for (int i = 0; i < amounts.length; i++) {
+            results[i] = approve();
+        }
+        return results;
+    }
+
+    @Override
+    public String getPaymentType() {
+        return "Simulated";
+    }
+
+    private synchronized boolean approve() {
+        return random.nextDouble() >= declineRate;
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during simulated payment", e);
+        }
+    }
+}
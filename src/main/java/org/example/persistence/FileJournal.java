@@ -0,0 +1,312 @@
+package org.example.persistence;
+
+import org.example.models.Ticket;
+import org.example.models.vehicle.Vehicle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal split into segments named {@code journal-<first seq>.log}. Gate threads
+ * only encode into an in-memory buffer; a background flusher swaps buffers and writes them out,
+ * calling {@code force} once per batch (group commit) when fsync is enabled.
+ */
+public class FileJournal implements LotJournal, AutoCloseable {
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final JournalConfig config;
+    private final Object appendLock = new Object();
+    private final ReentrantLock channelLock = new ReentrantLock();
+    private final CRC32C crc = new CRC32C();
+    private final Thread flusher;
+
+    private ByteBuffer active;
+    private ByteBuffer flushing;
+    private long lastSeq;
+    private long writtenSeq;
+    private int pendingRecords;
+    private boolean flushRequested;
+    private boolean closed;
+    private IOException failure;
+    private FileChannel channel;
+
+    public FileJournal(JournalConfig config, long lastSeq) throws IOException {
+        this.config = config;
+        this.active = ByteBuffer.allocate(config.bufferBytes());
+        this.flushing = ByteBuffer.allocate(config.bufferBytes());
+        this.lastSeq = lastSeq;
+        this.writtenSeq = lastSeq;
+        Files.createDirectories(config.directory());
+        this.channel = openSegment(lastSeq + 1);
+        this.flusher = new Thread(this::flushLoop, "journal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    @Override
+    public void recordPark(Ticket ticket, Vehicle vehicle) {
+        synchronized (appendLock) {
+            reserve();
+            JournalRecord.encodePark(active, crc, ++lastSeq, ticket, vehicle);
+            appended();
+        }
+    }
+
+    @Override
+    public void recordExit(Ticket ticket) {
+        synchronized (appendLock) {
+            reserve();
+            JournalRecord.encodeExit(active, crc, ++lastSeq, ticket);
+            ticket.setExitSeq(lastSeq);
+            appended();
+        }
+    }
+
+    @Override
+    public void recordParks(List<Ticket> tickets, List<Vehicle> vehicles) {
+        synchronized (appendLock) {
+            for (int i = 0; i < tickets.size(); i++) {
+                reserve();
+                JournalRecord.encodePark(active, crc, ++lastSeq, tickets.get(i), vehicles.get(i));
+                appended();
+            }
+        }
+    }
+
+    @Override
+    public void recordExits(List<Ticket> tickets) {
+        synchronized (appendLock) {
+            for (Ticket ticket : tickets) {
+                reserve();
+                JournalRecord.encodeExit(active, crc, ++lastSeq, ticket);
+                ticket.setExitSeq(lastSeq);
+                appended();
+            }
+        }
+    }
+
+    public long lastSeq() {
+        synchronized (appendLock) {
+            return lastSeq;
+        }
+    }
+
+    public void sync() throws IOException {
+        synchronized (appendLock) {
+            long target = lastSeq;
+            flushRequested = true;
+            appendLock.notifyAll();
+            while (writtenSeq < target && failure == null && !closed) {
+                waitOnAppendLock();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Closes the current segment and starts a new one. Every record up to the returned sequence
+     * number is on disk in a segment older than the active one.
+     */
+    public long roll() throws IOException {
+        channelLock.lock();
+        try {
+            synchronized (appendLock) {
+                writeAndForce(active);
+                writtenSeq = lastSeq;
+                pendingRecords = 0;
+                channel.close();
+                channel = openSegment(lastSeq + 1);
+                appendLock.notifyAll();
+                return lastSeq;
+            }
+        } finally {
+            channelLock.unlock();
+        }
+    }
+
+    public void deleteSegmentsUpTo(long seq) throws IOException {
+        List<Path> segments = segments(config.directory());
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            if (firstSeqOf(segments.get(i + 1)) <= seq + 1) {
+                Files.deleteIfExists(segments.get(i));
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        sync();
+        synchronized (appendLock) {
+            closed = true;
+            appendLock.notifyAll();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channelLock.lock();
+        try {
+            channel.close();
+        } finally {
+            channelLock.unlock();
+        }
+    }
+
+    /**
+     * Feeds every record after {@code afterSeq} to {@code consumer} in sequence order and returns the
+     * last sequence number applied. A torn or corrupt record ends its segment. Replay carries on into
+     * the next segment only if it picks up at the next sequence number, which is what reopening the
+     * journal after a crash mid-write produces. Any gap stops replay, so nothing after a lost record
+     * is applied.
+     */
+    public static long replay(Path directory, long afterSeq, Consumer<JournalRecord> consumer) throws IOException {
+        long last = afterSeq;
+        if (!Files.isDirectory(directory)) {
+            return last;
+        }
+        for (Path segment : segments(directory)) {
+            try (FileChannel in = FileChannel.open(segment, StandardOpenOption.READ)) {
+                ByteBuffer buffer = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+                JournalRecord record;
+                while ((record = JournalRecord.decode(buffer)) != null) {
+                    if (record.seq() > last + 1) {
+                        return last;
+                    }
+                    if (record.seq() > last) {
+                        consumer.accept(record);
+                        last = record.seq();
+                    }
+                }
+            }
+        }
+        return last;
+    }
+
+    private void reserve() {
+        if (closed) {
+            throw new IllegalStateException("Journal is closed");
+        }
+        if (failure != null) {
+            throw new UncheckedIOException(failure);
+        }
+        while (active.remaining() < JournalRecord.MAX_SIZE) {
+            flushRequested = true;
+            appendLock.notifyAll();
+            waitOnAppendLock();
+        }
+    }
+
+    private void appended() {
+        if (++pendingRecords >= config.groupCommitRecords()) {
+            appendLock.notifyAll();
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            channelLock.lock();
+            try {
+                long batchSeq;
+                synchronized (appendLock) {
+                    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.groupCommitMillis());
+                    long remaining;
+                    while (!closed && !flushRequested && pendingRecords < config.groupCommitRecords()
+                            && (remaining = deadline - System.nanoTime()) > 0) {
+                        try {
+                            appendLock.wait(Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining)));
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                    flushRequested = false;
+                    if (active.position() == 0) {
+                        if (closed) {
+                            return;
+                        }
+                        continue;
+                    }
+                    ByteBuffer full = active;
+                    active = flushing;
+                    flushing = full;
+                    batchSeq = lastSeq;
+                    pendingRecords = 0;
+                    appendLock.notifyAll();
+                }
+
+                writeAndForce(flushing);
+
+                synchronized (appendLock) {
+                    writtenSeq = Math.max(writtenSeq, batchSeq);
+                    appendLock.notifyAll();
+                }
+            } catch (IOException e) {
+                synchronized (appendLock) {
+                    failure = e;
+                    appendLock.notifyAll();
+                }
+                return;
+            } finally {
+                channelLock.unlock();
+            }
+        }
+    }
+
+    private void writeAndForce(ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+        if (config.fsync()) {
+            channel.force(false);
+        }
+    }
+
+    private void waitOnAppendLock() {
+        try {
+            appendLock.wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for journal flush", e);
+        }
+    }
+
+    private FileChannel openSegment(long firstSeq) throws IOException {
+        Path path = config.directory().resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSeq, SEGMENT_SUFFIX));
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static List<Path> segments(Path directory) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }).sorted().forEach(segments::add);
+        }
+        return segments;
+    }
+
+    private static long firstSeqOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
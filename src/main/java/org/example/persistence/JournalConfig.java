@@ -0,0 +1,28 @@
+package org.example.persistence;
+
+import java.nio.file.Path;
+
+public record JournalConfig(Path directory, int bufferBytes, int groupCommitRecords,
+                            long groupCommitMillis, boolean fsync) {
+
+    public JournalConfig {
+        if (bufferBytes < JournalRecord.MAX_SIZE) {
+            throw new IllegalArgumentException("Buffer must hold at least one record: " + bufferBytes);
+        }
+        if (groupCommitRecords <= 0 || groupCommitMillis <= 0) {
+            throw new IllegalArgumentException("Group commit thresholds must be positive");
+        }
+    }
+
+    public static JournalConfig defaults(Path directory) {
+        return new JournalConfig(directory, 1 << 20, 512, 5, true);
+    }
+
+    public JournalConfig withFsync(boolean fsync) {
+        return new JournalConfig(directory, bufferBytes, groupCommitRecords, groupCommitMillis, fsync);
+    }
+
+    public JournalConfig withGroupCommit(int records, long millis) {
+        return new JournalConfig(directory, bufferBytes, records, millis, fsync);
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.persistence;
+
+import org.example.enums.VehicleType;
+import org.example.models.Ticket;
+import org.example.models.vehicle.Vehicle;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+/**
+ * On-disk layout: {@code [int length][int crc32c][byte kind][long seq][long ticketId][long time]
+ * [long amount][byte vehicleType][short plateLen][plate][short slotLen][slot]}. The CRC covers
+ * everything after itself, so a torn tail is detected and dropped on recovery.
+ */
+public record JournalRecord(Kind kind, long seq, long ticketId, long timeMillis, long amount,
+                            VehicleType vehicleType, String licensePlate, String slotId) {
+
+    public enum Kind { PARK, EXIT }
+
+    static final int MAX_STRING_BYTES = LotJournal.MAX_FIELD_BYTES;
+    static final int HEADER_BYTES = Integer.BYTES * 2;
+    static final int MAX_SIZE = HEADER_BYTES + 1 + Long.BYTES * 4 + 1 + (Short.BYTES + MAX_STRING_BYTES) * 2;
+
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+    private static final byte[] EMPTY = new byte[0];
+
+    static void encodePark(ByteBuffer buffer, CRC32C crc, long seq, Ticket ticket, Vehicle vehicle) {
+        encode(buffer, crc, Kind.PARK, seq, ticket.getId(), ticket.getEntryTimeMillis(), 0,
+                vehicle.getType(), utf8(ticket.getVehicleLicense()), utf8(ticket.getSlotId()));
+    }
+
+    static void encodeExit(ByteBuffer buffer, CRC32C crc, long seq, Ticket ticket) {
+        encode(buffer, crc, Kind.EXIT, seq, ticket.getId(), ticket.getExitTimeMillis(), ticket.getAmount(),
+                null, EMPTY, EMPTY);
+    }
+
+    private static void encode(ByteBuffer buffer, CRC32C crc, Kind kind, long seq, long ticketId, long timeMillis,
+                               long amount, VehicleType vehicleType, byte[] plate, byte[] slot) {
+        int start = buffer.position();
+        int bodyLength = 1 + Long.BYTES * 4 + 1 + Short.BYTES * 2 + plate.length + slot.length;
+        buffer.putInt(bodyLength);
+        buffer.putInt(0);
+        int bodyStart = buffer.position();
+        buffer.put((byte) kind.ordinal());
+        buffer.putLong(seq);
+        buffer.putLong(ticketId);
+        buffer.putLong(timeMillis);
+        buffer.putLong(amount);
+        buffer.put((byte) (vehicleType == null ? -1 : vehicleType.ordinal()));
+        buffer.putShort((short) plate.length).put(plate);
+        buffer.putShort((short) slot.length).put(slot);
+
+        crc.reset();
+        crc.update(buffer.slice(bodyStart, bodyLength));
+        buffer.putInt(start + Integer.BYTES, (int) crc.getValue());
+    }
+
+    static JournalRecord decode(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_BYTES) {
+            return null;
+        }
+        int start = buffer.position();
+        int bodyLength = buffer.getInt(start);
+        int storedCrc = buffer.getInt(start + Integer.BYTES);
+        if (bodyLength <= 0 || bodyLength > MAX_SIZE || buffer.remaining() < HEADER_BYTES + bodyLength) {
+            return null;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(start + HEADER_BYTES, bodyLength));
+        if ((int) crc.getValue() != storedCrc) {
+            return null;
+        }
+
+        buffer.position(start + HEADER_BYTES);
+        Kind kind = Kind.values()[buffer.get()];
+        long seq = buffer.getLong();
+        long ticketId = buffer.getLong();
+        long timeMillis = buffer.getLong();
+        long amount = buffer.getLong();
+        byte type = buffer.get();
+        String plate = readString(buffer);
+        String slot = readString(buffer);
+        return new JournalRecord(kind, seq, ticketId, timeMillis, amount,
+                type < 0 ? null : VEHICLE_TYPES[type], plate, slot);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] utf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("Value too long for journal: " + value);
+        }
+        return bytes;
+    }
+}
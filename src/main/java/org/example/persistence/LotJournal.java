@@ -0,0 +1,36 @@
+package org.example.persistence;
+
+import org.example.models.Ticket;
+import org.example.models.vehicle.Vehicle;
+
+import java.util.List;
+
+public interface LotJournal {
+    int MAX_FIELD_BYTES = 255;
+
+    LotJournal NO_OP = new LotJournal() {
+        @Override
+        public void recordPark(Ticket ticket, Vehicle vehicle) {
+        }
+
+        @Override
+        public void recordExit(Ticket ticket) {
+        }
+    };
+
+    void recordPark(Ticket ticket, Vehicle vehicle);
+
+    void recordExit(Ticket ticket);
+
+    default void recordParks(List<Ticket> tickets, List<Vehicle> vehicles) {
+        for (int i = 0; i < tickets.size(); i++) {
+            recordPark(tickets.get(i), vehicles.get(i));
+        }
+    }
+
+    default void recordExits(List<Ticket> tickets) {
+        for (Ticket ticket : tickets) {
+            recordExit(ticket);
+        }
+    }
+}
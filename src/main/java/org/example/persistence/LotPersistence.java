@@ -0,0 +1,203 @@
+package org.example.persistence;
+
+import org.example.events.EventType;
+import org.example.models.ParkingLot;
+import org.example.models.ParkingSlot;
+import org.example.models.Ticket;
+import org.example.models.vehicle.Vehicle;
+import org.example.models.vehicle.VehicleFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class LotPersistence implements AutoCloseable {
+    private final ParkingLot lot;
+    private final JournalConfig config;
+    private final FileJournal journal;
+    private final RecoveryReport recovery;
+    private ScheduledExecutorService snapshotScheduler;
+
+    public record RecoveryReport(int snapshotTickets, int replayedRecords, long lastSeq, long elapsedMillis) {
+    }
+
+    private LotPersistence(ParkingLot lot, JournalConfig config, FileJournal journal, RecoveryReport recovery) {
+        this.lot = lot;
+        this.config = config;
+        this.journal = journal;
+        this.recovery = recovery;
+    }
+
+    public static LotPersistence open(ParkingLot lot, JournalConfig config) throws IOException {
+        long start = System.nanoTime();
+
+        SnapshotFile snapshot = SnapshotFile.readLatest(config.directory());
+        Replay replay = new Replay(lot);
+        for (SnapshotFile.Entry entry : snapshot.entries()) {
+            replay.park(new Ticket(entry.ticketId(), entry.licensePlate(), entry.slotId(), entry.entryTimeMillis()),
+                    VehicleFactory.create(entry.vehicleType(), entry.licensePlate()));
+        }
+
+        int[] replayed = new int[1];
+        long lastSeq = FileJournal.replay(config.directory(), snapshot.lastSeq(), record -> {
+            replayed[0]++;
+            if (record.kind() == JournalRecord.Kind.PARK) {
+                replay.park(new Ticket(record.ticketId(), record.licensePlate(), record.slotId(), record.timeMillis()),
+                        VehicleFactory.create(record.vehicleType(), record.licensePlate()));
+            } else {
+                replay.exit(record.ticketId());
+            }
+        });
+        replay.finish();
+
+        RecoveryReport report = new RecoveryReport(snapshot.entries().size(), replayed[0], lastSeq,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        FileJournal journal = new FileJournal(config, lastSeq);
+        LotPersistence persistence = new LotPersistence(lot, config, journal, report);
+        lot.setJournal(journal);
+        persistence.checkpoint();
+        return persistence;
+    }
+
+    /**
+     * Rolls the journal and snapshots the active tickets. A ticket whose EXIT is already in the
+     * rolled segments is left out even if the exit has not released it yet, because replay starts
+     * after those records and would otherwise bring it back.
+     */
+    public synchronized void checkpoint() throws IOException {
+        long lastSeq = journal.roll();
+
+        List<SnapshotFile.Entry> entries = new ArrayList<>();
+        lot.forEachActiveTicket(ticket -> {
+            long exitSeq = ticket.getExitSeq();
+            if (exitSeq != 0 && exitSeq <= lastSeq) {
+                return;
+            }
+            ParkingSlot slot = lot.getSlot(ticket.getSlotId());
+            Vehicle vehicle = slot == null ? null : slot.getParkedVehicle();
+            if (vehicle != null && vehicle.getLicensePlate().equals(ticket.getVehicleLicense())) {
+                entries.add(new SnapshotFile.Entry(ticket.getId(), ticket.getEntryTimeMillis(), vehicle.getType(),
+                        ticket.getVehicleLicense(), ticket.getSlotId()));
+            }
+        });
+
+        new SnapshotFile(lastSeq, entries).write(config.directory());
+        journal.deleteSegmentsUpTo(lastSeq);
+        SnapshotFile.deleteOlderThan(config.directory(), lastSeq);
+    }
+
+    public synchronized void startPeriodicSnapshots(Duration interval) {
+        if (snapshotScheduler != null) {
+            return;
+        }
+        snapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lot-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        snapshotScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                checkpoint();
+            } catch (IOException e) {
+                lot.getEventSink().publish(EventType.PERSISTENCE_WARNING, 0, 0, null, null,
+                        "Snapshot of " + lot.getName() + " failed: " + e.getMessage(), null);
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void sync() throws IOException {
+        journal.sync();
+    }
+
+    public RecoveryReport getRecovery() {
+        return recovery;
+    }
+
+    FileJournal journal() {
+        return journal;
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (snapshotScheduler != null) {
+                snapshotScheduler.shutdown();
+            }
+        }
+        lot.setJournal(LotJournal.NO_OP);
+        journal.close();
+    }
+
+    /**
+     * Applies recovered parks and exits to the lot. Journals written before exits were recorded ahead
+     * of the slot release can hold a PARK for a slot whose previous ticket only exits in a later
+     * record; that PARK waits for the EXIT instead of failing recovery. A PARK still waiting at the
+     * end means the earlier ticket's EXIT was lost, so the later ticket takes the slot.
+     */
+    private static final class Replay {
+        private final ParkingLot lot;
+        private final Map<String, ArrayDeque<Pending>> waiting = new HashMap<>();
+
+        private record Pending(Ticket ticket, Vehicle vehicle) {
+        }
+
+        Replay(ParkingLot lot) {
+            this.lot = lot;
+        }
+
+        void park(Ticket ticket, Vehicle vehicle) {
+            ParkingSlot slot = lot.getSlot(ticket.getSlotId());
+            if (slot != null && !slot.isAvailable() && lot.getTicket(ticket.getId()) == null) {
+                waiting.computeIfAbsent(slot.getSlotId(), id -> new ArrayDeque<>()).add(new Pending(ticket, vehicle));
+                return;
+            }
+            lot.restoreTicket(ticket, vehicle);
+        }
+
+        void exit(long ticketId) {
+            Ticket ticket = lot.getTicket(ticketId);
+            if (ticket == null) {
+                waiting.values().forEach(queue -> queue.removeIf(pending -> pending.ticket().getId() == ticketId));
+                return;
+            }
+            lot.discardTicket(ticketId);
+            ArrayDeque<Pending> queue = waiting.remove(ticket.getSlotId());
+            if (queue != null && !queue.isEmpty()) {
+                Pending next = queue.poll();
+                lot.restoreTicket(next.ticket(), next.vehicle());
+                if (!queue.isEmpty()) {
+                    waiting.put(ticket.getSlotId(), queue);
+                }
+            }
+        }
+
+        void finish() {
+            for (Map.Entry<String, ArrayDeque<Pending>> entry : waiting.entrySet()) {
+                Pending latest = entry.getValue().peekLast();
+                if (latest == null) {
+                    continue;
+                }
+                ParkingSlot slot = lot.getSlot(entry.getKey());
+                Vehicle occupant = slot.getParkedVehicle();
+                Ticket stale = occupant == null ? null : lot.findTicketByPlate(occupant.getLicensePlate());
+                if (stale != null) {
+                    lot.discardTicket(stale.getId());
+                    String warning = "Recovery of " + lot.getName() + " dropped " + stale.getTicketId() +
+                            ": slot " + entry.getKey() + " was later taken by " + latest.ticket().getTicketId();
+                    lot.getEventSink().publish(EventType.PERSISTENCE_WARNING, stale.getId(), 0, occupant, slot,
+                            warning, null);
+                }
+                lot.restoreTicket(latest.ticket(), latest.vehicle());
+            }
+            waiting.clear();
+        }
+    }
+}
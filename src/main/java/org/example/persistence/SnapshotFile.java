@@ -0,0 +1,122 @@
+package org.example.persistence;
+
+import org.example.enums.VehicleType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+public record SnapshotFile(long lastSeq, List<Entry> entries) {
+    private static final int MAGIC = 0x504C534E;
+    private static final int VERSION = 1;
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".snap";
+
+    public record Entry(long ticketId, long entryTimeMillis, VehicleType vehicleType,
+                        String licensePlate, String slotId) {
+    }
+
+    public Path write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path target = directory.resolve(String.format("%s%020d%s", PREFIX, lastSeq, SUFFIX));
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            CRC32C crc = new CRC32C();
+            OutputStream raw = Channels.newOutputStream(channel);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(raw, crc), 1 << 16));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(lastSeq);
+            out.writeInt(entries.size());
+            for (Entry entry : entries) {
+                out.writeLong(entry.ticketId());
+                out.writeLong(entry.entryTimeMillis());
+                out.writeByte(entry.vehicleType().ordinal());
+                out.writeUTF(entry.licensePlate());
+                out.writeUTF(entry.slotId());
+            }
+            out.flush();
+            new DataOutputStream(raw).writeInt((int) crc.getValue());
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return target;
+    }
+
+    public static SnapshotFile readLatest(Path directory) throws IOException {
+        List<Path> snapshots = snapshots(directory);
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            SnapshotFile snapshot = read(snapshots.get(i));
+            if (snapshot != null) {
+                return snapshot;
+            }
+        }
+        return new SnapshotFile(0, List.of());
+    }
+
+    public static void deleteOlderThan(Path directory, long lastSeq) throws IOException {
+        for (Path snapshot : snapshots(directory)) {
+            if (seqOf(snapshot) < lastSeq) {
+                Files.deleteIfExists(snapshot);
+            }
+        }
+    }
+
+    private static SnapshotFile read(Path path) throws IOException {
+        CRC32C crc = new CRC32C();
+        try (InputStream raw = new BufferedInputStream(Files.newInputStream(path), 1 << 16)) {
+            DataInputStream in = new DataInputStream(new CheckedInputStream(raw, crc));
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+            long lastSeq = in.readLong();
+            int count = in.readInt();
+            VehicleType[] types = VehicleType.values();
+            List<Entry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                entries.add(new Entry(in.readLong(), in.readLong(), types[in.readByte()], in.readUTF(), in.readUTF()));
+            }
+            int expected = (int) crc.getValue();
+            return new DataInputStream(raw).readInt() == expected ? new SnapshotFile(lastSeq, entries) : null;
+        } catch (java.io.EOFException e) {
+            return null;
+        }
+    }
+
+    private static List<Path> snapshots(Path directory) throws IOException {
+        List<Path> snapshots = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return snapshots;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+            }).sorted().forEach(snapshots::add);
+        }
+        return snapshots;
+    }
+
+    private static long seqOf(Path snapshot) {
+        String name = snapshot.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+}
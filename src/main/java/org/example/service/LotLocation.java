@@ -0,0 +1,7 @@
+package org.example.service;
+
+public record LotLocation(double x, double y) {
+    public double distanceTo(LotLocation other) {
+        return Math.hypot(x - other.x, y - other.y);
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.service;
+
+import org.example.enums.SlotType;
+import org.example.models.FreeSlotIndex;
+import org.example.models.ParkingLot;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+final class LotShard {
+    private final int lotId;
+    private final ParkingLot lot;
+    private final LotLocation location;
+    private final ExecutorService executor;
+    private volatile LotSummary summary;
+    private volatile LotShard[] neighbours;
+
+    LotShard(int lotId, ParkingLot lot, LotLocation location, ExecutorService executor) {
+        this.lotId = lotId;
+        this.lot = lot;
+        this.location = location;
+        this.executor = executor;
+        this.neighbours = new LotShard[0];
+    }
+
+    <T> CompletableFuture<T> submit(Supplier<T> operation) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return operation.get();
+            } finally {
+                refresh();
+            }
+        }, executor);
+    }
+
+    void refresh() {
+        FreeSlotIndex freeSlots = lot.getFreeSlots();
+        int freeClasses = 0;
+        int free = 0;
+        for (int slotClass = 0; slotClass < SlotType.CLASS_COUNT && !lot.isClosed(); slotClass++) {
+            int count = freeSlots.freeCount(slotClass);
+            if (count > 0) {
+                freeClasses |= 1 << slotClass;
+                free += count;
+            }
+        }
+        summary = new LotSummary(lotId, lot.getName(), freeClasses, free);
+    }
+
+    LotSummary getSummary() {
+        LotSummary current = summary;
+        if (current == null) {
+            refresh();
+            current = summary;
+        }
+        return current;
+    }
+
+    int getLotId() { return lotId; }
+    ParkingLot getLot() { return lot; }
+    LotLocation getLocation() { return location; }
+    LotShard[] getNeighbours() { return neighbours; }
+    void setNeighbours(LotShard[] neighbours) { this.neighbours = neighbours; }
+}
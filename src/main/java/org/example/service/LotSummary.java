@@ -0,0 +1,9 @@
+package org.example.service;
+
+import org.example.enums.VehicleType;
+
+public record LotSummary(int lotId, String name, int freeClasses, int freeSlots) {
+    public boolean hasFit(VehicleType type) {
+        return (freeClasses & type.getCompatibleClasses()) != 0;
+    }
+}
@@ -0,0 +1,256 @@
+package org.example.service;
+
+import org.example.models.ParkResult;
+import org.example.models.ParkingLot;
+import org.example.models.Ticket;
+import org.example.models.vehicle.Vehicle;
+import org.example.payment.AsyncPaymentProcessor;
+import org.example.payment.PaymentMethod;
+import org.example.payment.PaymentResult;
+import org.example.strategy.allocation.SlotAllocationStrategy;
+import org.example.strategy.pricing.PricingStrategy;
+import org.example.strategy.ticketid.BlockTicketIdGenerator;
+import org.example.util.LotClock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Runs several lots, each confined to one worker thread so its state has a single writer. Every
+ * lot issues ticket IDs carrying its lot ID, which makes exits and lookups a direct array index.
+ * A vehicle that does not fit its requested lot is offered to the other lots nearest first,
+ * skipping any whose cached summary shows no compatible free slot. A service-wide plate index keeps
+ * a vehicle in at most one lot at a time; it covers parks and exits made through the service, not
+ * calls made on a lot returned by {@link #getLot} directly. Exit payments run on the payment
+ * processor's threads; only pricing and the slot release run on the lot's worker.
+ */
+public class ParkingService implements AutoCloseable {
+    private static final Long PARKING = 0L;
+    private static final Duration PAYMENT_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ExecutorService[] workers;
+    private final AtomicReferenceArray<LotShard> shardsById;
+    private final List<LotShard> shards;
+    private final Map<String, Long> parkedPlates;
+    private final LotClock clock;
+    private final AsyncPaymentProcessor payments;
+    private int nextLotId;
+
+    public ParkingService(int workerCount) {
+        this(workerCount, LotClock.SYSTEM);
+    }
+
+    public ParkingService(int workerCount, LotClock clock) {
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("Worker count must be positive: " + workerCount);
+        }
+        this.workers = new ExecutorService[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            String threadName = "lot-worker-" + i;
+            workers[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        this.shardsById = new AtomicReferenceArray<>(BlockTicketIdGenerator.MAX_LOT_ID + 1);
+        this.shards = new ArrayList<>();
+        this.parkedPlates = new ConcurrentHashMap<>();
+        this.nextLotId = 1;
+        this.clock = clock;
+        this.payments = new AsyncPaymentProcessor(PAYMENT_TIMEOUT);
+    }
+
+    public synchronized ParkingLot createLot(String name, SlotAllocationStrategy allocationStrategy,
+                                             PricingStrategy pricingStrategy, LotLocation location) {
+        if (nextLotId > BlockTicketIdGenerator.MAX_LOT_ID) {
+            throw new IllegalStateException("Lot limit reached: " + BlockTicketIdGenerator.MAX_LOT_ID);
+        }
+        int lotId = nextLotId++;
+        ParkingLot lot = new ParkingLot(name, allocationStrategy, pricingStrategy,
+                new BlockTicketIdGenerator(lotId, clock));
+        lot.setClock(clock);
+        LotShard shard = new LotShard(lotId, lot, location, workers[lotId % workers.length]);
+        shards.add(shard);
+        for (LotShard existing : shards) {
+            existing.setNeighbours(neighboursOf(existing));
+        }
+        shardsById.set(lotId, shard);
+        return lot;
+    }
+
+    private LotShard[] neighboursOf(LotShard origin) {
+        return shards.stream()
+                .filter(shard -> shard != origin)
+                .sorted(Comparator.comparingDouble(shard -> shard.getLocation().distanceTo(origin.getLocation())))
+                .toArray(LotShard[]::new);
+    }
+
+    public CompletableFuture<Ticket> parkVehicle(int lotId, Vehicle vehicle) {
+        LotShard home = findShard(lotId);
+        if (home == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Unknown lot ID: " + lotId));
+        }
+        String plate = vehicle.getLicensePlate();
+        if (parkedPlates.putIfAbsent(plate, PARKING) != null) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Vehicle already parked: " + plate));
+        }
+        CompletableFuture<Ticket> parked;
+        try {
+            parked = home.submit(() -> tryPark(home, vehicle));
+        } catch (RuntimeException e) {
+            parkedPlates.remove(plate, PARKING);
+            return CompletableFuture.failedFuture(e);
+        }
+        return parked
+                .thenCompose(ticket -> ticket != null ? CompletableFuture.completedFuture(ticket)
+                        : overflow(home.getNeighbours(), 0, vehicle))
+                .whenComplete((ticket, e) -> {
+                    if (ticket != null) {
+                        parkedPlates.replace(plate, PARKING, ticket.getId());
+                    } else {
+                        parkedPlates.remove(plate, PARKING);
+                    }
+                });
+    }
+
+    private CompletableFuture<Ticket> overflow(LotShard[] candidates, int from, Vehicle vehicle) {
+        for (int i = from; i < candidates.length; i++) {
+            LotShard candidate = candidates[i];
+            if (candidate.getSummary().hasFit(vehicle.getType())) {
+                int next = i + 1;
+                return candidate.submit(() -> tryPark(candidate, vehicle))
+                        .thenCompose(ticket -> ticket != null ? CompletableFuture.completedFuture(ticket)
+                                : overflow(candidates, next, vehicle));
+            }
+        }
+        return CompletableFuture.failedFuture(
+                new RuntimeException("No available slot for vehicle: " + vehicle.getLicensePlate()));
+    }
+
+    private static Ticket tryPark(LotShard shard, Vehicle vehicle) {
+        ParkResult result = shard.getLot().tryPark(vehicle);
+        if (result.status() == ParkResult.Status.DUPLICATE_ENTRY) {
+            throw new IllegalStateException("Vehicle already parked: " + vehicle.getLicensePlate());
+        }
+        return result.ticket();
+    }
+
+    public CompletableFuture<Long> exitVehicle(long ticketId, PaymentMethod paymentMethod) {
+        LotShard shard = shardsById.get(BlockTicketIdGenerator.lotIdOf(ticketId));
+        if (shard == null) {
+            return CompletableFuture.failedFuture(
+                    new IllegalArgumentException("Invalid ticket ID: " + Ticket.formatId(ticketId)));
+        }
+        return shard.submit(() -> {
+            ParkingLot lot = shard.getLot();
+            Ticket ticket = lot.getTicket(ticketId);
+            if (ticket == null) {
+                throw new IllegalArgumentException("Invalid ticket ID: " + Ticket.formatId(ticketId));
+            }
+            Executor onShard = release -> shard.submit(() -> {
+                release.run();
+                if (lot.getTicket(ticketId) == null) {
+                    parkedPlates.remove(ticket.getVehicleLicense(), ticketId);
+                }
+                return null;
+            });
+            return lot.exitVehicleAsync(ticketId, paymentMethod, payments, onShard).thenApply(result -> {
+                if (result.isSuccess()) {
+                    parkedPlates.remove(ticket.getVehicleLicense(), ticketId);
+                }
+                return result;
+            });
+        }).thenCompose(Function.identity()).thenApply(result -> settledAmount(result, ticketId));
+    }
+
+    private static long settledAmount(PaymentResult result, long ticketId) {
+        if (!result.isSuccess()) {
+            throw new RuntimeException(result.failureReason() + " for ticket: " + Ticket.formatId(ticketId));
+        }
+        return result.amount();
+    }
+
+    public CompletableFuture<Long> exitVehicle(String ticketId, PaymentMethod paymentMethod) {
+        long id;
+        try {
+            id = Ticket.parseId(ticketId);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return exitVehicle(id, paymentMethod);
+    }
+
+    public Ticket findTicket(long ticketId) {
+        ParkingLot lot = lotForTicket(ticketId);
+        return lot != null ? lot.getTicket(ticketId) : null;
+    }
+
+    public Ticket findTicketByPlate(String licensePlate) {
+        Long ticketId = parkedPlates.get(licensePlate);
+        return ticketId != null && !ticketId.equals(PARKING) ? findTicket(ticketId) : null;
+    }
+
+    public ParkingLot lotForTicket(long ticketId) {
+        LotShard shard = shardsById.get(BlockTicketIdGenerator.lotIdOf(ticketId));
+        return shard != null ? shard.getLot() : null;
+    }
+
+    public ParkingLot getLot(int lotId) {
+        return shard(lotId).getLot();
+    }
+
+    public LotSummary getSummary(int lotId) {
+        return shard(lotId).getSummary();
+    }
+
+    public synchronized List<LotSummary> getSummaries() {
+        List<LotSummary> summaries = new ArrayList<>(shards.size());
+        for (LotShard shard : shards) {
+            summaries.add(shard.getSummary());
+        }
+        return summaries;
+    }
+
+    public CompletableFuture<Void> refreshSummaries() {
+        LotShard[] snapshot;
+        synchronized (this) {
+            snapshot = shards.toArray(new LotShard[0]);
+        }
+        CompletableFuture<?>[] refreshes = new CompletableFuture<?>[snapshot.length];
+        for (int i = 0; i < snapshot.length; i++) {
+            refreshes[i] = snapshot[i].submit(() -> null);
+        }
+        return CompletableFuture.allOf(refreshes);
+    }
+
+    private LotShard shard(int lotId) {
+        LotShard shard = findShard(lotId);
+        if (shard == null) {
+            throw new IllegalArgumentException("Unknown lot ID: " + lotId);
+        }
+        return shard;
+    }
+
+    private LotShard findShard(int lotId) {
+        return lotId >= 0 && lotId < shardsById.length() ? shardsById.get(lotId) : null;
+    }
+
+    @Override
+    public void close() {
+        payments.close();
+        for (ExecutorService worker : workers) {
+            worker.shutdown();
+        }
+    }
+}
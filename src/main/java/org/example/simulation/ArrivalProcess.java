@@ -0,0 +1,49 @@
+package org.example.simulation;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongToDoubleFunction;
+
+public interface ArrivalProcess {
+    long nextArrival(long afterMillis, Random random);
+
+    static ArrivalProcess poisson(double perHour) {
+        return (afterMillis, random) -> afterMillis + exponentialMillis(perHour, random);
+    }
+
+    static ArrivalProcess varying(LongToDoubleFunction perHourAt, double maxPerHour) {
+        return new VaryingRateArrivals(perHourAt, maxPerHour);
+    }
+
+    static ArrivalProcess rushHour(double basePerHour, double peakPerHour, ZoneId zone) {
+        return varying(timeMillis -> {
+            ZonedDateTime local = Instant.ofEpochMilli(timeMillis).atZone(zone);
+            if (local.getDayOfWeek() == DayOfWeek.SATURDAY || local.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                return basePerHour;
+            }
+            double hour = local.getHour() + local.getMinute() / 60.0;
+            double peak = Math.max(Math.exp(-square(hour - 8.5) / 2), Math.exp(-square(hour - 17.5) / 2));
+            return basePerHour + (peakPerHour - basePerHour) * peak;
+        }, Math.max(basePerHour, peakPerHour));
+    }
+
+    static ArrivalProcess stadiumBurst(double basePerHour, double burstPerHour, long burstStartMillis,
+                                       Duration burstLength) {
+        long burstEndMillis = burstStartMillis + burstLength.toMillis();
+        return varying(timeMillis -> timeMillis >= burstStartMillis && timeMillis < burstEndMillis
+                ? burstPerHour : basePerHour, Math.max(basePerHour, burstPerHour));
+    }
+
+    static long exponentialMillis(double perHour, Random random) {
+        return Math.max(1, (long) (-Math.log(1 - random.nextDouble()) / perHour * TimeUnit.HOURS.toMillis(1)));
+    }
+
+    private static double square(double value) {
+        return value * value;
+    }
+}
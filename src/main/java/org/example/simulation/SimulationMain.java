@@ -0,0 +1,130 @@
+package org.example.simulation;
+
+import org.example.enums.SlotType;
+import org.example.events.EventSink;
+import org.example.models.ParkingLot;
+import org.example.models.ParkingSlot;
+import org.example.strategy.allocation.BestFitSlotStrategy;
+import org.example.strategy.allocation.NearestSlotStrategy;
+import org.example.strategy.allocation.RandomSlotStrategy;
+import org.example.strategy.allocation.SlotAllocationStrategy;
+import org.example.strategy.pricing.DynamicPricingStrategy;
+import org.example.strategy.pricing.FlatPricingStrategy;
+import org.example.strategy.pricing.HourlyPricingStrategy;
+import org.example.strategy.pricing.RateSchedule;
+import org.example.util.Money;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Runs one traffic scenario against every allocation and pricing strategy and prints a report for
+ * each. Arguments: {@code [poisson|rush|stadium|replay=<csv>] [hours] [seed] [slots]}.
+ */
+public class SimulationMain {
+    private static final long START_MILLIS = Instant.parse("2026-03-02T00:00:00Z").toEpochMilli();
+    private static final int FLOORS = 4;
+
+    public static void main(String[] args) throws IOException {
+        String scenario = args.length > 0 ? args[0] : "rush";
+        int hours = args.length > 1 ? Integer.parseInt(args[1]) : 24;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42;
+        int slots = args.length > 3 ? Integer.parseInt(args[3]) : 1000;
+
+        List<TrafficEvent> trace = scenario.startsWith("replay=")
+                ? TrafficTrace.read(Path.of(scenario.substring("replay=".length()))) : null;
+        SyntheticTraffic traffic = trace == null ? synthetic(scenario, slots) : null;
+
+        for (String allocation : List.of("nearest", "random", "bestfit")) {
+            for (String pricing : List.of("hourly", "flat", "dynamic")) {
+                ParkingLot lot = createLot(allocation, pricing, slots);
+                TrafficSimulator simulator = new TrafficSimulator(lot, START_MILLIS).sampleEvery(Duration.ofHours(1));
+                SimulationReport report = trace != null
+                        ? simulator.replay(trace)
+                        : simulator.run(traffic, Duration.ofHours(hours), seed);
+                System.out.println(report.format());
+            }
+        }
+    }
+
+    private static SyntheticTraffic synthetic(String scenario, int slots) {
+        switch (scenario) {
+            case "poisson":
+                return new SyntheticTraffic(ArrivalProcess.poisson(slots * 0.3),
+                        StayDistribution.logNormal(Duration.ofHours(2), 0.8), VehicleMix.typical());
+            case "rush":
+                return new SyntheticTraffic(ArrivalProcess.rushHour(slots * 0.05, slots * 0.6, ZoneOffset.UTC),
+                        StayDistribution.logNormal(Duration.ofHours(3), 0.7), VehicleMix.typical());
+            case "stadium":
+                long kickoff = START_MILLIS + Duration.ofHours(18).toMillis();
+                return new SyntheticTraffic(ArrivalProcess.stadiumBurst(slots * 0.05, slots * 1.5,
+                        kickoff - Duration.ofMinutes(90).toMillis(), Duration.ofMinutes(90)),
+                        StayDistribution.until(kickoff + Duration.ofHours(2).toMillis(), Duration.ofMinutes(45)),
+                        VehicleMix.typical());
+            default:
+                throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        }
+    }
+
+    private static ParkingLot createLot(String allocation, String pricing, int slots) {
+        ParkingLot lot = new ParkingLot("Simulated Parking", allocationStrategy(allocation, slots),
+                new FlatPricingStrategy());
+        lot.setEventSink(EventSink.noOp());
+        switch (pricing) {
+            case "hourly":
+                lot.setPricingStrategy(new HourlyPricingStrategy());
+                break;
+            case "dynamic":
+                lot.setPricingStrategy(new DynamicPricingStrategy(peakSchedule(), lot::getOccupancy));
+                break;
+            default:
+                break;
+        }
+
+        for (int i = 0; i < slots; i++) {
+            int floor = i % FLOORS + 1;
+            int share = i % 20;
+            SlotType type = share < 3 ? SlotType.MOTORCYCLE : share < 19 ? SlotType.CAR : SlotType.TRUCK;
+            lot.addSlot(new ParkingSlot(String.format("F%d-%06d", floor, i), type, floor, share % 5 == 1));
+        }
+        return lot;
+    }
+
+    private static SlotAllocationStrategy allocationStrategy(String allocation, int slots) {
+        switch (allocation) {
+            case "random":
+                return new RandomSlotStrategy();
+            case "bestfit":
+                return new BestFitSlotStrategy()
+                        .withReserve(SlotType.TRUCK, false, slots / 200)
+                        .withReserve(SlotType.CAR, true, slots / 100);
+            default:
+                return new NearestSlotStrategy();
+        }
+    }
+
+    private static RateSchedule peakSchedule() {
+        Set<DayOfWeek> weekdays = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+        RateSchedule.Builder builder = RateSchedule.builder(ZoneOffset.UTC)
+                .chargingRate(Money.ofMajor(5.0))
+                .energyRate(Money.ofMajor(0.40))
+                .occupancySurcharge(0.8, 1.25)
+                .occupancySurcharge(0.95, 1.5);
+        for (SlotType type : SlotType.values()) {
+            long base = Money.ofMajor(10.0) * type.getSize();
+            builder.baseRate(type, base)
+                    .band(type, weekdays, LocalTime.of(7, 0), LocalTime.of(10, 0), base * 2)
+                    .band(type, weekdays, LocalTime.of(16, 30), LocalTime.of(19, 0), base * 2)
+                    .band(type, weekdays, LocalTime.of(22, 0), LocalTime.of(6, 0), base / 2);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.simulation;
+
+import org.example.enums.VehicleType;
+import org.example.metrics.HistogramSnapshot;
+import org.example.models.ParkResult;
+import org.example.util.Money;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public record SimulationReport(String allocation,
+                               String pricing,
+                               long simulatedMillis,
+                               long wallNanos,
+                               long arrivals,
+                               long parked,
+                               Map<ParkResult.Status, Long> rejections,
+                               Map<VehicleType, Long> rejectionsByType,
+                               long exits,
+                               long unmatchedExits,
+                               long revenue,
+                               HistogramSnapshot parkLatency,
+                               HistogramSnapshot exitLatency,
+                               List<OccupancySample> occupancy) {
+
+    public SimulationReport {
+        rejections = Collections.unmodifiableMap(rejections);
+        rejectionsByType = Collections.unmodifiableMap(rejectionsByType);
+        occupancy = Collections.unmodifiableList(occupancy);
+    }
+
+    public long rejected() {
+        return arrivals - parked;
+    }
+
+    public double rejectionRate() {
+        return arrivals > 0 ? (double) rejected() / arrivals : 0;
+    }
+
+    public double operationsPerSecond() {
+        return wallNanos > 0 ? (arrivals + exits) * 1e9 / wallNanos : 0;
+    }
+
+    public double peakOccupancy() {
+        double peak = 0;
+        for (OccupancySample sample : occupancy) {
+            peak = Math.max(peak, sample.fraction());
+        }
+        return peak;
+    }
+
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%s + %s: %s simulated in %.2f s (%.0f ops/s)%n", allocation, pricing,
+                Duration.ofMillis(simulatedMillis), wallNanos / 1e9, operationsPerSecond()));
+        out.append(String.format("arrivals=%d parked=%d rejected=%d (%.2f%%) exits=%d unmatchedExits=%d revenue=$%s%n",
+                arrivals, parked, rejected(), rejectionRate() * 100, exits, unmatchedExits, Money.format(revenue)));
+        out.append("rejections:");
+        rejections.forEach((status, count) -> out.append(' ').append(status).append('=').append(count));
+        out.append(System.lineSeparator()).append("rejected by type:");
+        rejectionsByType.forEach((type, count) -> out.append(' ').append(type).append('=').append(count));
+        out.append(System.lineSeparator());
+        out.append(String.format("%-12s %10s %10s %10s %10s %10s %10s%n",
+                "latency (ns)", "count", "mean", "p50", "p99", "p99.9", "max"));
+        appendLatency(out, "park", parkLatency);
+        appendLatency(out, "exit", exitLatency);
+        out.append(String.format("occupancy: peak %.1f%%%n", peakOccupancy() * 100));
+        for (OccupancySample sample : occupancy) {
+            out.append(String.format("  %s %6d/%-6d %5.1f%%%n", Instant.ofEpochMilli(sample.timeMillis()),
+                    sample.occupied(), sample.total(), sample.fraction() * 100));
+        }
+        return out.toString();
+    }
+
+    private static void appendLatency(StringBuilder out, String label, HistogramSnapshot histogram) {
+        out.append(String.format("%-12s %10d %10.0f %10d %10d %10d %10d%n", label, histogram.count(),
+                histogram.mean(), histogram.percentile(50), histogram.percentile(99),
+                histogram.percentile(99.9), histogram.max()));
+    }
+
+    public record OccupancySample(long timeMillis, long occupied, long total) {
+        public double fraction() {
+            return total > 0 ? (double) occupied / total : 0;
+        }
+    }
+}
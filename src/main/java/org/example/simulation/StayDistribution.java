@@ -0,0 +1,24 @@
+package org.example.simulation;
+
+import java.time.Duration;
+import java.util.Random;
+
+public interface StayDistribution {
+    long stayMillis(long arrivalMillis, Random random);
+
+    static StayDistribution exponential(Duration mean) {
+        double meanMillis = mean.toMillis();
+        return (arrivalMillis, random) -> Math.max(1, (long) (-Math.log(1 - random.nextDouble()) * meanMillis));
+    }
+
+    static StayDistribution logNormal(Duration median, double sigma) {
+        double mu = Math.log(median.toMillis());
+        return (arrivalMillis, random) -> Math.max(1, (long) Math.exp(mu + sigma * random.nextGaussian()));
+    }
+
+    static StayDistribution until(long leaveMillis, Duration spread) {
+        long spreadMillis = Math.max(1, spread.toMillis());
+        return (arrivalMillis, random) -> Math.max(leaveMillis - arrivalMillis, 0) +
+                (long) (random.nextDouble() * spreadMillis) + 1;
+    }
+}
@@ -0,0 +1,4 @@
+package org.example.simulation;
+
+public record SyntheticTraffic(ArrivalProcess arrivals, StayDistribution stays, VehicleMix mix) {
+}
@@ -0,0 +1,10 @@
+package org.example.simulation;
+
+import org.example.enums.VehicleType;
+
+public record TrafficEvent(long timeMillis, Kind kind, String licensePlate, VehicleType vehicleType) {
+    public enum Kind {
+        ENTRY,
+        EXIT
+    }
+}
@@ -0,0 +1,186 @@
+package org.example.simulation;
+
+import org.example.enums.VehicleType;
+import org.example.events.EventSink;
+import org.example.metrics.LatencyHistogram;
+import org.example.models.ExitResult;
+import org.example.models.ParkResult;
+import org.example.models.ParkingLot;
+import org.example.models.Ticket;
+import org.example.models.vehicle.ElectricVehicle;
+import org.example.models.vehicle.Vehicle;
+import org.example.models.vehicle.VehicleFactory;
+import org.example.payment.CashPayment;
+import org.example.payment.PaymentMethod;
+import org.example.util.ManualClock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * Drives a lot through synthetic or recorded traffic on a virtual clock. The lot's clock is replaced
+ * with a {@link ManualClock} that jumps from event to event, so a week of traffic runs in seconds and
+ * tickets are priced for their simulated stays. Synthetic runs draw arrivals and vehicle attributes
+ * from separate generators seeded from one value, so the same seed replays the same traffic under
+ * every allocation and pricing strategy.
+ */
+public class TrafficSimulator {
+    private static final double MAX_ARRIVAL_CHARGE = 0.8;
+
+    private final ParkingLot lot;
+    private final ManualClock clock;
+    private final PaymentMethod payment;
+    private long sampleEveryMillis = Duration.ofMinutes(15).toMillis();
+
+    public TrafficSimulator(ParkingLot lot, long startMillis) {
+        this.lot = lot;
+        this.clock = new ManualClock(startMillis);
+        this.payment = new CashPayment(EventSink.noOp());
+        lot.setClock(clock);
+    }
+
+    public TrafficSimulator sampleEvery(Duration interval) {
+        this.sampleEveryMillis = Math.max(1, interval.toMillis());
+        return this;
+    }
+
+    public SimulationReport run(SyntheticTraffic traffic, Duration length, long seed) {
+        Random arrivals = new Random(seed);
+        Random attributes = new Random(arrivals.nextLong());
+        long start = clock.currentTimeMillis();
+        long end = start + length.toMillis();
+        Tally tally = new Tally(start);
+        PriorityQueue<Departure> departures = new PriorityQueue<>(Comparator.comparingLong(Departure::timeMillis));
+
+        long nextArrival = traffic.arrivals().nextArrival(start, arrivals);
+        while (true) {
+            Departure departure = departures.peek();
+            boolean arrivalDue = nextArrival < end &&
+                    (departure == null || nextArrival < departure.timeMillis());
+            if (arrivalDue) {
+                tally.advanceTo(nextArrival);
+                Vehicle vehicle = createVehicle(traffic.mix().pick(attributes), "SIM" + tally.arrivals, attributes);
+                long stay = traffic.stays().stayMillis(nextArrival, attributes);
+                ParkResult result = tally.park(vehicle);
+                if (result.isParked()) {
+                    departures.add(new Departure(nextArrival + stay, result.ticket().getId()));
+                }
+                nextArrival = traffic.arrivals().nextArrival(nextArrival, arrivals);
+            } else if (departure != null && departure.timeMillis() < end) {
+                departures.poll();
+                tally.advanceTo(departure.timeMillis());
+                tally.exit(departure.ticketId());
+            } else {
+                break;
+            }
+        }
+        tally.advanceTo(end);
+        return tally.report(end - start);
+    }
+
+    public SimulationReport replay(List<TrafficEvent> events) {
+        long start = events.isEmpty() ? clock.currentTimeMillis() : events.get(0).timeMillis();
+        Tally tally = new Tally(start);
+        Random attributes = new Random(0);
+        long last = start;
+        for (TrafficEvent event : events) {
+            last = Math.max(last, event.timeMillis());
+            tally.advanceTo(last);
+            switch (event.kind()) {
+                case ENTRY:
+                    tally.park(createVehicle(event.vehicleType(), event.licensePlate(), attributes));
+                    break;
+                case EXIT:
+                    Ticket ticket = lot.findTicketByPlate(event.licensePlate());
+                    if (ticket == null) {
+                        tally.unmatchedExits++;
+                    } else {
+                        tally.exit(ticket.getId());
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown traffic event: " + event.kind());
+            }
+        }
+        return tally.report(last - start);
+    }
+
+    private static Vehicle createVehicle(VehicleType type, String licensePlate, Random attributes) {
+        Vehicle vehicle = VehicleFactory.create(type, licensePlate);
+        if (vehicle instanceof ElectricVehicle) {
+            ((ElectricVehicle) vehicle).setStateOfCharge(attributes.nextDouble() * MAX_ARRIVAL_CHARGE);
+        }
+        return vehicle;
+    }
+
+    private record Departure(long timeMillis, long ticketId) {
+    }
+
+    private final class Tally {
+        private final long wallStart = System.nanoTime();
+        private final LatencyHistogram parkLatency = new LatencyHistogram();
+        private final LatencyHistogram exitLatency = new LatencyHistogram();
+        private final Map<ParkResult.Status, Long> rejections = new EnumMap<>(ParkResult.Status.class);
+        private final Map<VehicleType, Long> rejectionsByType = new EnumMap<>(VehicleType.class);
+        private final List<SimulationReport.OccupancySample> occupancy = new ArrayList<>();
+        private long nextSampleMillis;
+        private long arrivals;
+        private long parked;
+        private long exits;
+        private long unmatchedExits;
+        private long revenue;
+
+        Tally(long startMillis) {
+            this.nextSampleMillis = startMillis;
+        }
+
+        void advanceTo(long timeMillis) {
+            while (nextSampleMillis <= timeMillis) {
+                long total = lot.getSlotCount();
+                occupancy.add(new SimulationReport.OccupancySample(nextSampleMillis,
+                        total - lot.querySlots().available().count(), total));
+                nextSampleMillis += sampleEveryMillis;
+            }
+            clock.set(timeMillis);
+        }
+
+        ParkResult park(Vehicle vehicle) {
+            arrivals++;
+            long start = System.nanoTime();
+            ParkResult result = lot.tryPark(vehicle);
+            parkLatency.record(System.nanoTime() - start);
+            if (result.isParked()) {
+                parked++;
+            } else {
+                rejections.merge(result.status(), 1L, Long::sum);
+                rejectionsByType.merge(vehicle.getType(), 1L, Long::sum);
+            }
+            return result;
+        }
+
+        void exit(long ticketId) {
+            long start = System.nanoTime();
+            ExitResult result = lot.tryExit(ticketId, payment);
+            exitLatency.record(System.nanoTime() - start);
+            if (result.isExited()) {
+                exits++;
+                revenue += result.amount();
+            } else {
+                unmatchedExits++;
+            }
+        }
+
+        SimulationReport report(long simulatedMillis) {
+            return new SimulationReport(lot.getAllocationStrategy().getClass().getSimpleName(),
+                    lot.getPricingStrategy().getClass().getSimpleName(), simulatedMillis,
+                    System.nanoTime() - wallStart, arrivals, parked, rejections, rejectionsByType, exits,
+                    unmatchedExits, revenue, parkLatency.snapshot(), exitLatency.snapshot(), occupancy);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.simulation;
+
+import org.example.enums.VehicleType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Entry/exit traces as CSV: {@code time,event,plate,vehicleType}. Time is epoch milliseconds or an
+ * ISO-8601 instant, event is {@code ENTRY} or {@code EXIT}, and vehicle type may be empty on exits.
+ * Blank lines, {@code #} comments and a leading header row are skipped. Events come back sorted by
+ * time, keeping file order for ties.
+ */
+public final class TrafficTrace {
+    private TrafficTrace() {
+    }
+
+    public static List<TrafficEvent> read(Path path) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path)) {
+            return read(reader);
+        }
+    }
+
+    public static List<TrafficEvent> read(Reader source) throws IOException {
+        BufferedReader reader = source instanceof BufferedReader
+                ? (BufferedReader) source : new BufferedReader(source);
+        List<TrafficEvent> events = new ArrayList<>();
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            boolean header = events.isEmpty() && line.toLowerCase(Locale.ROOT).startsWith("time");
+            if (line.isEmpty() || line.startsWith("#") || header) {
+                continue;
+            }
+            events.add(parse(line, lineNumber));
+        }
+        events.sort(Comparator.comparingLong(TrafficEvent::timeMillis));
+        return events;
+    }
+
+    private static TrafficEvent parse(String line, int lineNumber) {
+        String[] fields = line.split(",", -1);
+        if (fields.length < 3) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": expected time,event,plate[,vehicleType]");
+        }
+        try {
+            String time = fields[0].trim();
+            long timeMillis = !time.isEmpty() && time.chars().allMatch(Character::isDigit)
+                    ? Long.parseLong(time) : Instant.parse(time).toEpochMilli();
+            TrafficEvent.Kind kind = TrafficEvent.Kind.valueOf(fields[1].trim().toUpperCase(Locale.ROOT));
+            String plate = fields[2].trim();
+            String type = fields.length > 3 ? fields[3].trim() : "";
+            if (plate.isEmpty() || (kind == TrafficEvent.Kind.ENTRY && type.isEmpty())) {
+                throw new IllegalArgumentException("missing plate or vehicle type");
+            }
+            return new TrafficEvent(timeMillis, kind, plate,
+                    type.isEmpty() ? null : VehicleType.valueOf(type.toUpperCase(Locale.ROOT)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": " + e.getMessage(), e);
+        }
+    }
+}
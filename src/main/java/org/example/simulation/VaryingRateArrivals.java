@@ -0,0 +1,36 @@
+package org.example.simulation;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * Non-homogeneous Poisson arrivals by thinning: candidates arrive at the maximum rate and each is
+ * kept with probability rate(t) / max. A process that stays silent for a week is treated as over.
+ */
+final class VaryingRateArrivals implements ArrivalProcess {
+    private static final long MAX_GAP_MILLIS = Duration.ofDays(7).toMillis();
+
+    private final LongToDoubleFunction perHourAt;
+    private final double maxPerHour;
+
+    VaryingRateArrivals(LongToDoubleFunction perHourAt, double maxPerHour) {
+        if (maxPerHour <= 0) {
+            throw new IllegalArgumentException("Maximum arrival rate must be positive: " + maxPerHour);
+        }
+        this.perHourAt = perHourAt;
+        this.maxPerHour = maxPerHour;
+    }
+
+    @Override
+    public long nextArrival(long afterMillis, Random random) {
+        long candidate = afterMillis;
+        while (candidate - afterMillis < MAX_GAP_MILLIS) {
+            candidate += ArrivalProcess.exponentialMillis(maxPerHour, random);
+            if (random.nextDouble() * maxPerHour < perHourAt.applyAsDouble(candidate)) {
+                return candidate;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+}
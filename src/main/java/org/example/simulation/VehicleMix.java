@@ -0,0 +1,55 @@
+package org.example.simulation;
+
+import org.example.enums.VehicleType;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+public final class VehicleMix {
+    private final VehicleType[] types;
+    private final double[] cumulative;
+
+    private VehicleMix(Map<VehicleType, Double> weights) {
+        types = new VehicleType[weights.size()];
+        cumulative = new double[weights.size()];
+        double total = 0;
+        int i = 0;
+        for (Map.Entry<VehicleType, Double> weight : weights.entrySet()) {
+            if (weight.getValue() < 0) {
+                throw new IllegalArgumentException("Negative weight for " + weight.getKey());
+            }
+            total += weight.getValue();
+            types[i] = weight.getKey();
+            cumulative[i++] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Vehicle mix needs a positive weight");
+        }
+        for (int j = 0; j < cumulative.length; j++) {
+            cumulative[j] /= total;
+        }
+    }
+
+    public static VehicleMix of(Map<VehicleType, Double> weights) {
+        return new VehicleMix(new EnumMap<>(weights));
+    }
+
+    public static VehicleMix typical() {
+        return of(Map.of(
+                VehicleType.CAR, 0.70,
+                VehicleType.MOTORCYCLE, 0.15,
+                VehicleType.TRUCK, 0.05,
+                VehicleType.ELECTRIC_CAR, 0.10));
+    }
+
+    public VehicleType pick(Random random) {
+        double draw = random.nextDouble();
+        for (int i = 0; i < cumulative.length - 1; i++) {
+            if (draw < cumulative[i]) {
+                return types[i];
+            }
+        }
+        return types[types.length - 1];
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.strategy.allocation;
+
+import org.example.enums.SlotType;
+import org.example.enums.VehicleType;
+import org.example.models.FreeSlotIndex;
+import org.example.models.ParkingSlot;
+import org.example.models.vehicle.Vehicle;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Parks each vehicle in the smallest compatible slot class, trying slots without a charger before
+ * charging slots so that chargers stay free for electric vehicles. A vehicle only moves up to a
+ * larger or charging class when every better-fitting class is full, and it may not take the last
+ * {@link #withReserve reserved} free slots of a class that is not its own, so trucks and EVs still
+ * find a slot when smaller vehicles have spilled over. Each choice reads the free-slot counts and
+ * takes the nearest slot of the chosen class from the pooled index.
+ */
+public class BestFitSlotStrategy implements SlotAllocationStrategy {
+    private static final int[][] PREFERENCES = new int[VehicleType.values().length][];
+    private static final int[] OWN_CLASS = new int[VehicleType.values().length];
+
+    static {
+        for (VehicleType type : VehicleType.values()) {
+            int[] order = new int[Integer.bitCount(type.getCompatibleClasses())];
+            int next = 0;
+            for (boolean charging : new boolean[]{false, true}) {
+                for (SlotType slotType : SlotType.values()) {
+                    if (type.accepts(slotType.classIndex(charging))) {
+                        order[next++] = slotType.classIndex(charging);
+                    }
+                }
+            }
+            PREFERENCES[type.ordinal()] = order;
+            OWN_CLASS[type.ordinal()] = type.getRequiredSlotType().classIndex(type.isElectric());
+        }
+    }
+
+    private final int[] reserves;
+
+    public BestFitSlotStrategy() {
+        this(new int[SlotType.CLASS_COUNT]);
+    }
+
+    private BestFitSlotStrategy(int[] reserves) {
+        this.reserves = reserves;
+    }
+
+    public BestFitSlotStrategy withReserve(SlotType type, boolean charging, int slots) {
+        if (slots < 0) {
+            throw new IllegalArgumentException("Reserve must not be negative: " + slots);
+        }
+        int[] updated = Arrays.copyOf(reserves, reserves.length);
+        updated[type.classIndex(charging)] = slots;
+        return new BestFitSlotStrategy(updated);
+    }
+
+    public int getReserve(SlotType type, boolean charging) {
+        return reserves[type.classIndex(charging)];
+    }
+
+    @Override
+    public ParkingSlot findSlot(List<ParkingSlot> availableSlots, Vehicle vehicle) {
+        int[] free = new int[SlotType.CLASS_COUNT];
+        ParkingSlot[] nearest = new ParkingSlot[SlotType.CLASS_COUNT];
+        for (ParkingSlot slot : availableSlots) {
+            if (slot.canFit(vehicle)) {
+                int slotClass = slot.getSlotClass();
+                free[slotClass]++;
+                if (nearest[slotClass] == null || FreeSlotIndex.SLOT_ORDER.compare(slot, nearest[slotClass]) < 0) {
+                    nearest[slotClass] = slot;
+                }
+            }
+        }
+        VehicleType type = vehicle.getType();
+        for (int slotClass : PREFERENCES[type.ordinal()]) {
+            if (free[slotClass] > reserveFor(type, slotClass)) {
+                return nearest[slotClass];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public ParkingSlot findSlot(FreeSlotIndex freeSlots, Vehicle vehicle) {
+        VehicleType type = vehicle.getType();
+        for (int slotClass : PREFERENCES[type.ordinal()]) {
+            if (freeSlots.freeCount(slotClass) > reserveFor(type, slotClass)) {
+                ParkingSlot slot = freeSlots.firstFree(slotClass);
+                if (slot != null) {
+                    return slot;
+                }
+            }
+        }
+        return null;
+    }
+
+    private int reserveFor(VehicleType type, int slotClass) {
+        return slotClass == OWN_CLASS[type.ordinal()] ? 0 : reserves[slotClass];
+    }
+}
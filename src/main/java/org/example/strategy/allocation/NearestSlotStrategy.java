@@ -1,18 +1,25 @@
 package org.example.strategy.allocation;
 
+import org.example.models.FreeSlotIndex;
 import org.example.models.ParkingSlot;
 import org.example.models.vehicle.Vehicle;
 
-import java.util.Comparator;
 import java.util.List;
 
 public class NearestSlotStrategy implements SlotAllocationStrategy {
     @Override
     public ParkingSlot findSlot(List<ParkingSlot> availableSlots, Vehicle vehicle) {
-        return availableSlots.stream()
-                .filter(slot -> slot.canFit(vehicle))
-                .min(Comparator.comparing(ParkingSlot::getFloor)
-                        .thenComparing(ParkingSlot::getSlotId))
-                .orElse(null);
+        ParkingSlot nearest = null;
+        for (ParkingSlot slot : availableSlots) {
+            if (slot.canFit(vehicle) && (nearest == null || FreeSlotIndex.SLOT_ORDER.compare(slot, nearest) < 0)) {
+                nearest = slot;
+            }
+        }
+        return nearest;
+    }
+
+    @Override
+    public ParkingSlot findSlot(FreeSlotIndex freeSlots, Vehicle vehicle) {
+        return freeSlots.firstFreeIn(vehicle.getType().getCompatibleClasses());
     }
 }
@@ -1,25 +1,56 @@
 package org.example.strategy.allocation;
 
+import org.example.models.FreeSlotIndex;
 import org.example.models.ParkingSlot;
 import org.example.models.vehicle.Vehicle;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class RandomSlotStrategy implements SlotAllocationStrategy {
-    private final Random random = new Random();
+    private static final int MAX_ATTEMPTS = 4;
 
     @Override
     public ParkingSlot findSlot(List<ParkingSlot> availableSlots, Vehicle vehicle) {
-        List<ParkingSlot> suitableSlots = availableSlots.stream()
-                .filter(slot -> slot.canFit(vehicle))
-                .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
-
-        if (suitableSlots.isEmpty()) {
-            return null;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ParkingSlot chosen = null;
+        int suitable = 0;
+        for (ParkingSlot slot : availableSlots) {
+            if (slot.canFit(vehicle) && random.nextInt(++suitable) == 0) {
+                chosen = slot;
+            }
         }
+        return chosen;
+    }
+
+    @Override
+    public ParkingSlot findSlot(FreeSlotIndex freeSlots, Vehicle vehicle) {
+        int compatible = vehicle.getType().getCompatibleClasses();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            int suitable = 0;
+            for (int classes = compatible; classes != 0; classes &= classes - 1) {
+                suitable += freeSlots.freeCount(Integer.numberOfTrailingZeros(classes));
+            }
+
+            if (suitable == 0) {
+                return null;
+            }
 
-        return suitableSlots.get(random.nextInt(suitableSlots.size()));
+            int pick = random.nextInt(suitable);
+            for (int classes = compatible; classes != 0; classes &= classes - 1) {
+                int slotClass = Integer.numberOfTrailingZeros(classes);
+                int count = freeSlots.freeCount(slotClass);
+                if (pick < count) {
+                    ParkingSlot slot = freeSlots.freeAt(slotClass, pick);
+                    if (slot != null && slot.isAvailable()) {
+                        return slot;
+                    }
+                    break;
+                }
+                pick -= count;
+            }
+        }
+        return freeSlots.firstFreeIn(compatible);
     }
 }
@@ -1,5 +1,6 @@
 package org.example.strategy.allocation;
 
+import org.example.models.FreeSlotIndex;
 import org.example.models.ParkingSlot;
 import org.example.models.vehicle.Vehicle;
 
@@ -7,4 +8,8 @@ import java.util.List;
 
 public interface SlotAllocationStrategy {
     ParkingSlot findSlot(List<ParkingSlot> availableSlots, Vehicle vehicle);
-}
\ No newline at end of file
+
+    default ParkingSlot findSlot(FreeSlotIndex freeSlots, Vehicle vehicle) {
+        return findSlot(freeSlots.allFreeSlots(), vehicle);
+    }
+}
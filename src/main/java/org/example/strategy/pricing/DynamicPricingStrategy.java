@@ -0,0 +1,54 @@
+package org.example.strategy.pricing;
+
+import org.example.enums.SlotType;
+import org.example.models.ParkingSlot;
+import org.example.models.Ticket;
+import org.example.models.vehicle.Vehicle;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Bills a stay band by band from a {@link RateSchedule}, then applies the schedule's surcharge for
+ * the slot type's occupancy at exit. {@link #reload(RateSchedule)} swaps the schedule atomically;
+ * each price reads the reference once, so exits in flight finish on the schedule they started with.
+ */
+public class DynamicPricingStrategy implements PricingStrategy {
+    private static final long MILLIS_PER_HOUR = RateSchedule.MILLIS_PER_HOUR;
+    private static final long MINIMUM_STAY_MILLIS = MILLIS_PER_HOUR;
+
+    private final ToDoubleFunction<SlotType> occupancy;
+    private volatile RateSchedule schedule;
+
+    public DynamicPricingStrategy(RateSchedule schedule, ToDoubleFunction<SlotType> occupancy) {
+        this.schedule = schedule;
+        this.occupancy = occupancy;
+    }
+
+    public void reload(RateSchedule schedule) {
+        this.schedule = schedule;
+    }
+
+    public RateSchedule getSchedule() {
+        return schedule;
+    }
+
+    @Override
+    public long calculatePrice(Ticket ticket, ParkingSlot slot, Vehicle vehicle) {
+        RateSchedule schedule = this.schedule;
+        long entry = ticket.getEntryTimeMillis();
+        long exit = Math.max(ticket.getExitTimeMillis(), entry + MINIMUM_STAY_MILLIS);
+        SlotType type = slot.getType();
+
+        long basePrice = schedule.applySurcharge(schedule.price(type, entry, exit), occupancy.applyAsDouble(type));
+        long chargingCost;
+        if (ticket.isMetered()) {
+            chargingCost = PricingStrategy.energyCost(ticket, schedule.getEnergyRate());
+        } else if (vehicle.isUsingCharging()) {
+            chargingCost = (schedule.getChargingRate() * (exit - entry) + MILLIS_PER_HOUR / 2) / MILLIS_PER_HOUR;
+        } else {
+            chargingCost = 0;
+        }
+
+        return basePrice + chargingCost;
+    }
+}
@@ -3,39 +3,28 @@ package org.example.strategy.pricing;
 import org.example.enums.SlotType;
 import org.example.models.ParkingSlot;
 import org.example.models.Ticket;
-import org.example.models.vehicle.ElectricCar;
 import org.example.models.vehicle.Vehicle;
-
-import java.util.HashMap;
-import java.util.Map;
+import org.example.util.Money;
 
 public class FlatPricingStrategy implements PricingStrategy {
-    private final Map<SlotType, Double> flatRates;
-    private final double chargingRate;
+    private final long[] flatRates;
+    private final long chargingRate;
+    private final long energyRate;
 
     public FlatPricingStrategy() {
-        flatRates = new HashMap<>();
-        flatRates.put(SlotType.MOTORCYCLE, 50.0);
-        flatRates.put(SlotType.CAR, 100.0);
-        flatRates.put(SlotType.TRUCK, 200.0);
-        chargingRate = 25.0;
+        flatRates = new long[SlotType.values().length];
+        flatRates[SlotType.MOTORCYCLE.ordinal()] = Money.ofMajor(50.0);
+        flatRates[SlotType.CAR.ordinal()] = Money.ofMajor(100.0);
+        flatRates[SlotType.TRUCK.ordinal()] = Money.ofMajor(200.0);
+        chargingRate = Money.ofMajor(25.0);
+        energyRate = Money.ofMajor(0.40);
     }
 
     @Override
-    public double calculatePrice(Ticket ticket, ParkingSlot slot, Vehicle vehicle) {
-        double basePrice = flatRates.get(slot.getType());
-
-        double chargingCost = 0;
-        if (vehicle.isElectric()) {
-            boolean usingCharging = false;
-            if (vehicle instanceof ElectricCar) {
-                usingCharging = ((ElectricCar) vehicle).isUsingCharging();
-            }
-
-            if (usingCharging) {
-                chargingCost = chargingRate;
-            }
-        }
+    public long calculatePrice(Ticket ticket, ParkingSlot slot, Vehicle vehicle) {
+        long basePrice = flatRates[slot.getType().ordinal()];
+        long chargingCost = ticket.isMetered() ? PricingStrategy.energyCost(ticket, energyRate)
+                : vehicle.isUsingCharging() ? chargingRate : 0;
 
         return basePrice + chargingCost;
     }
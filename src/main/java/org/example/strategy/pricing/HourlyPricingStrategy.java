@@ -3,42 +3,33 @@ package org.example.strategy.pricing;
 import org.example.enums.SlotType;
 import org.example.models.ParkingSlot;
 import org.example.models.Ticket;
-import org.example.models.vehicle.ElectricCar;
 import org.example.models.vehicle.Vehicle;
-
-import java.util.HashMap;
-import java.util.Map;
+import org.example.util.Money;
 
 public class HourlyPricingStrategy implements PricingStrategy {
-    private final Map<SlotType, Double> hourlyRates;
-    private final double chargingRate;
+    private static final long MILLIS_PER_HOUR = 3_600_000L;
+
+    private final long[] hourlyRates;
+    private final long chargingRate;
+    private final long energyRate;
 
     public HourlyPricingStrategy() {
-        hourlyRates = new HashMap<>();
-        hourlyRates.put(SlotType.MOTORCYCLE, 10.0);
-        hourlyRates.put(SlotType.CAR, 20.0);
-        hourlyRates.put(SlotType.TRUCK, 50.0);
-        chargingRate = 5.0;
+        hourlyRates = new long[SlotType.values().length];
+        hourlyRates[SlotType.MOTORCYCLE.ordinal()] = Money.ofMajor(10.0);
+        hourlyRates[SlotType.CAR.ordinal()] = Money.ofMajor(20.0);
+        hourlyRates[SlotType.TRUCK.ordinal()] = Money.ofMajor(50.0);
+        chargingRate = Money.ofMajor(5.0);
+        energyRate = Money.ofMajor(0.40);
     }
 
     @Override
-    public double calculatePrice(Ticket ticket, ParkingSlot slot, Vehicle vehicle) {
-        long hours = java.time.Duration.between(ticket.getEntryTime(), ticket.getExitTime()).toHours();
+    public long calculatePrice(Ticket ticket, ParkingSlot slot, Vehicle vehicle) {
+        long hours = ticket.getDurationMillis() / MILLIS_PER_HOUR;
         if (hours == 0) hours = 1;
 
-        double basePrice = hourlyRates.get(slot.getType()) * hours;
-
-        double chargingCost = 0;
-        if (vehicle.isElectric()) {
-            boolean usingCharging = false;
-            if (vehicle instanceof ElectricCar) {
-                usingCharging = ((ElectricCar) vehicle).isUsingCharging();
-            }
-
-            if (usingCharging) {
-                chargingCost = chargingRate * hours;
-            }
-        }
+        long basePrice = hourlyRates[slot.getType().ordinal()] * hours;
+        long chargingCost = ticket.isMetered() ? PricingStrategy.energyCost(ticket, energyRate)
+                : vehicle.isUsingCharging() ? chargingRate * hours : 0;
 
         return basePrice + chargingCost;
     }
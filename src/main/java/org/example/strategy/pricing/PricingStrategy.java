@@ -5,5 +5,11 @@ import org.example.models.Ticket;
 import org.example.models.vehicle.Vehicle;
 
 public interface PricingStrategy {
-    double calculatePrice(Ticket ticket, ParkingSlot slot, Vehicle vehicle);
+    long WH_PER_KWH = 1000;
+
+    long calculatePrice(Ticket ticket, ParkingSlot slot, Vehicle vehicle);
+
+    static long energyCost(Ticket ticket, long ratePerKwh) {
+        return (ticket.getEnergyWh() * ratePerKwh + WH_PER_KWH / 2) / WH_PER_KWH;
+    }
 }
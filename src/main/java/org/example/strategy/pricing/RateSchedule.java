@@ -0,0 +1,231 @@
+package org.example.strategy.pricing;
+
+import org.example.enums.SlotType;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Weekly hourly rates per slot type plus occupancy surcharges. Bands are local wall-clock times at
+ * minute resolution; where bands overlap the one added last wins, and a band that does not end after
+ * it starts runs past midnight. Building flattens each slot type into sorted interval starts with a
+ * running cost prefix sum, so pricing a stay of any length is two binary searches. The zone offset at
+ * entry applies to the whole stay and comes from a precomputed transition table for 2000-2099.
+ */
+public final class RateSchedule {
+    static final long MILLIS_PER_HOUR = 3_600_000L;
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+    private static final long MILLIS_PER_WEEK = MINUTES_PER_WEEK * MILLIS_PER_MINUTE;
+    private static final long FIRST_MONDAY_MILLIS = 4 * MINUTES_PER_DAY * MILLIS_PER_MINUTE;
+    private static final long BASIS_POINTS = 10_000;
+
+    private static final Instant OFFSET_TABLE_START = Instant.parse("2000-01-01T00:00:00Z");
+    private static final Instant OFFSET_TABLE_END = Instant.parse("2100-01-01T00:00:00Z");
+    private static final long OFFSET_TABLE_END_MILLIS = OFFSET_TABLE_END.toEpochMilli();
+
+    private final ZoneRules zone;
+    private final long[] transitionMillis;
+    private final long[] offsetMillis;
+    private final long[][] starts;
+    private final long[][] rates;
+    private final long[][] prefixCosts;
+    private final long[] weekCosts;
+    private final double[] occupancyThresholds;
+    private final long[] surchargeBasisPoints;
+    private final long chargingRate;
+    private final long energyRate;
+
+    private RateSchedule(Builder builder) {
+        this.zone = builder.zone.getRules();
+        List<ZoneOffsetTransition> transitions = new ArrayList<>();
+        for (ZoneOffsetTransition next = zone.nextTransition(OFFSET_TABLE_START);
+             next != null && next.getInstant().isBefore(OFFSET_TABLE_END);
+             next = zone.nextTransition(next.getInstant())) {
+            transitions.add(next);
+        }
+        this.transitionMillis = new long[transitions.size() + 1];
+        this.offsetMillis = new long[transitions.size() + 1];
+        transitionMillis[0] = OFFSET_TABLE_START.toEpochMilli();
+        offsetMillis[0] = zone.getOffset(OFFSET_TABLE_START).getTotalSeconds() * 1000L;
+        for (int i = 0; i < transitions.size(); i++) {
+            transitionMillis[i + 1] = transitions.get(i).getInstant().toEpochMilli();
+            offsetMillis[i + 1] = transitions.get(i).getOffsetAfter().getTotalSeconds() * 1000L;
+        }
+        int types = SlotType.values().length;
+        this.starts = new long[types][];
+        this.rates = new long[types][];
+        this.prefixCosts = new long[types][];
+        this.weekCosts = new long[types];
+        for (SlotType type : SlotType.values()) {
+            compile(type.ordinal(), builder.minuteRates(type));
+        }
+        this.occupancyThresholds = builder.thresholds.stream().mapToDouble(Double::doubleValue).toArray();
+        this.surchargeBasisPoints = builder.multipliers.stream().mapToLong(Long::longValue).toArray();
+        this.chargingRate = builder.chargingRate;
+        this.energyRate = builder.energyRate;
+    }
+
+    private void compile(int t, long[] minuteRates) {
+        int intervals = 1;
+        for (int minute = 1; minute < MINUTES_PER_WEEK; minute++) {
+            if (minuteRates[minute] != minuteRates[minute - 1]) {
+                intervals++;
+            }
+        }
+        long[] intervalStarts = new long[intervals];
+        long[] intervalRates = new long[intervals];
+        long[] prefix = new long[intervals];
+        intervalRates[0] = minuteRates[0];
+        for (int minute = 1, i = 0; minute < MINUTES_PER_WEEK; minute++) {
+            if (minuteRates[minute] != minuteRates[minute - 1]) {
+                i++;
+                intervalStarts[i] = minute * MILLIS_PER_MINUTE;
+                intervalRates[i] = minuteRates[minute];
+                prefix[i] = prefix[i - 1] + intervalRates[i - 1] * (intervalStarts[i] - intervalStarts[i - 1]);
+            }
+        }
+        starts[t] = intervalStarts;
+        rates[t] = intervalRates;
+        prefixCosts[t] = prefix;
+        weekCosts[t] = prefix[intervals - 1] +
+                intervalRates[intervals - 1] * (MILLIS_PER_WEEK - intervalStarts[intervals - 1]);
+    }
+
+    public long price(SlotType type, long fromMillis, long toMillis) {
+        int t = type.ordinal();
+        long offset = offsetAt(fromMillis);
+        long from = fromMillis + offset - FIRST_MONDAY_MILLIS;
+        long to = toMillis + offset - FIRST_MONDAY_MILLIS;
+        long weeks = Math.floorDiv(to, MILLIS_PER_WEEK) - Math.floorDiv(from, MILLIS_PER_WEEK);
+        long cost = weeks * weekCosts[t] + costIntoWeek(t, Math.floorMod(to, MILLIS_PER_WEEK))
+                - costIntoWeek(t, Math.floorMod(from, MILLIS_PER_WEEK));
+        return (cost + MILLIS_PER_HOUR / 2) / MILLIS_PER_HOUR;
+    }
+
+    private long offsetAt(long epochMillis) {
+        if (epochMillis < transitionMillis[0] || epochMillis >= OFFSET_TABLE_END_MILLIS) {
+            return zone.getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds() * 1000L;
+        }
+        int i = Arrays.binarySearch(transitionMillis, epochMillis);
+        return offsetMillis[i >= 0 ? i : -i - 2];
+    }
+
+    private long costIntoWeek(int t, long weekMillis) {
+        long[] intervalStarts = starts[t];
+        int i = Arrays.binarySearch(intervalStarts, weekMillis);
+        if (i < 0) {
+            i = -i - 2;
+        }
+        return prefixCosts[t][i] + rates[t][i] * (weekMillis - intervalStarts[i]);
+    }
+
+    public long applySurcharge(long amount, double occupancy) {
+        for (int i = occupancyThresholds.length - 1; i >= 0; i--) {
+            if (occupancy >= occupancyThresholds[i]) {
+                return amount * surchargeBasisPoints[i] / BASIS_POINTS;
+            }
+        }
+        return amount;
+    }
+
+    public long getChargingRate() {
+        return chargingRate;
+    }
+
+    public long getEnergyRate() {
+        return energyRate;
+    }
+
+    public int bandCount(SlotType type) {
+        return starts[type.ordinal()].length;
+    }
+
+    public static Builder builder(ZoneId zone) {
+        return new Builder(zone);
+    }
+
+    public static final class Builder {
+        private final ZoneId zone;
+        private final long[] baseRates = new long[SlotType.values().length];
+        private final List<Band> bands = new ArrayList<>();
+        private final List<Double> thresholds = new ArrayList<>();
+        private final List<Long> multipliers = new ArrayList<>();
+        private long chargingRate;
+        private long energyRate;
+
+        private Builder(ZoneId zone) {
+            this.zone = zone;
+        }
+
+        public Builder baseRate(SlotType type, long hourlyRate) {
+            baseRates[type.ordinal()] = hourlyRate;
+            return this;
+        }
+
+        public Builder band(SlotType type, Set<DayOfWeek> days, LocalTime start, LocalTime end, long hourlyRate) {
+            bands.add(new Band(type, EnumSet.copyOf(days), start.getHour() * 60 + start.getMinute(),
+                    end.getHour() * 60 + end.getMinute(), hourlyRate));
+            return this;
+        }
+
+        public Builder occupancySurcharge(double threshold, double multiplier) {
+            int i = 0;
+            while (i < thresholds.size() && thresholds.get(i) < threshold) {
+                i++;
+            }
+            if (i < thresholds.size() && thresholds.get(i) == threshold) {
+                multipliers.set(i, Math.round(multiplier * BASIS_POINTS));
+            } else {
+                thresholds.add(i, threshold);
+                multipliers.add(i, Math.round(multiplier * BASIS_POINTS));
+            }
+            return this;
+        }
+
+        public Builder chargingRate(long hourlyRate) {
+            this.chargingRate = hourlyRate;
+            return this;
+        }
+
+        public Builder energyRate(long perKwh) {
+            this.energyRate = perKwh;
+            return this;
+        }
+
+        public RateSchedule build() {
+            return new RateSchedule(this);
+        }
+
+        private long[] minuteRates(SlotType type) {
+            long[] minuteRates = new long[MINUTES_PER_WEEK];
+            Arrays.fill(minuteRates, baseRates[type.ordinal()]);
+            for (Band band : bands) {
+                if (band.type != type) {
+                    continue;
+                }
+                int length = band.end > band.start ? band.end - band.start : band.end + MINUTES_PER_DAY - band.start;
+                for (DayOfWeek day : band.days) {
+                    int from = (day.getValue() - 1) * MINUTES_PER_DAY + band.start;
+                    for (int m = 0; m < length; m++) {
+                        minuteRates[(from + m) % MINUTES_PER_WEEK] = band.hourlyRate;
+                    }
+                }
+            }
+            return minuteRates;
+        }
+    }
+
+    private record Band(SlotType type, Set<DayOfWeek> days, int start, int end, long hourlyRate) {
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.strategy.ticketid;
+
+public interface TicketIdGenerator {
+    long nextId();
+
+    static TicketIdGenerator shared() {
+        return BlockTicketIdGenerator.SHARED;
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.util;
+
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Wall clock served from a field that a daemon thread refreshes once per resolution, so a read on
+ * the park/exit path is a volatile load rather than a clock call. Timestamps lag by up to one
+ * resolution; prices round to minutes or hours, so a millisecond-scale lag never shows in a bill.
+ * The clock stops advancing once closed.
+ */
+public final class CoarseClock implements LotClock, AutoCloseable {
+    private final long resolutionNanos;
+    private final Thread ticker;
+    private volatile long nowMillis;
+    private volatile boolean running;
+
+    public CoarseClock(Duration resolution) {
+        if (resolution.isNegative() || resolution.isZero()) {
+            throw new IllegalArgumentException("Resolution must be positive: " + resolution);
+        }
+        this.resolutionNanos = resolution.toNanos();
+        this.nowMillis = System.currentTimeMillis();
+        this.running = true;
+        this.ticker = new Thread(this::tick, "coarse-clock");
+        this.ticker.setDaemon(true);
+        this.ticker.start();
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return nowMillis;
+    }
+
+    private void tick() {
+        while (running) {
+            nowMillis = System.currentTimeMillis();
+            LockSupport.parkNanos(resolutionNanos);
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(ticker);
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.util;
+
+import java.util.function.Consumer;
+
+/**
+ * Hashed hierarchical timing wheel. Level 0 has {@code 2^bits} buckets of one tick each and every
+ * level above spans {@code 2^bits} times the level below, so scheduling and cancelling are O(1)
+ * linked-list operations however many timeouts are pending. Advancing one tick expires one level-0
+ * bucket and, when a lower level wraps, cascades one bucket per level down. Deadlines beyond the
+ * top level wait in its farthest bucket and are re-placed each time it cascades. Deadlines round up
+ * to whole ticks, so a timeout never fires early. Every bucket is allocated up front, so a level is
+ * capped at {@code 2^20} buckets. Not thread-safe; callers serialise access.
+ */
+public class HierarchicalTimingWheel<T> {
+    private static final int MAX_BITS = 20;
+
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final Timeout<T>[][] buckets;
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMillis, int bits, int levels, long startMillis) {
+        if (tickMillis <= 0 || bits <= 0 || bits > MAX_BITS || levels <= 0 || (long) bits * levels >= Long.SIZE - 1) {
+            throw new IllegalArgumentException("Invalid wheel: tick=" + tickMillis + "ms, bits=" + bits +
+                    ", levels=" + levels);
+        }
+        this.tickMillis = tickMillis;
+        this.bits = bits;
+        this.mask = (1 << bits) - 1;
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Timeout<T>[][] levelBuckets = new Timeout[levels][1 << bits];
+        this.buckets = levelBuckets;
+        for (Timeout<T>[] level : buckets) {
+            for (int b = 0; b < level.length; b++) {
+                level[b] = new Timeout<>(null, 0);
+            }
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    public Timeout<T> schedule(T task, long deadlineMillis) {
+        Timeout<T> timeout = new Timeout<>(task, -Math.floorDiv(-deadlineMillis, tickMillis));
+        place(timeout, currentTick + 1);
+        size++;
+        return timeout;
+    }
+
+    public boolean cancel(Timeout<T> timeout) {
+        if (!timeout.isPending()) {
+            return false;
+        }
+        timeout.unlink();
+        size--;
+        return true;
+    }
+
+    public int advance(long nowMillis, Consumer<? super T> expired) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        int fired = 0;
+        while (currentTick < targetTick) {
+            if (size == 0) {
+                currentTick = targetTick;
+                break;
+            }
+            currentTick++;
+            for (int level = buckets.length - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (bits * level)) - 1)) == 0) {
+                    cascade(buckets[level][(int) (currentTick >>> (bits * level)) & mask]);
+                }
+            }
+            Timeout<T> head = buckets[0][(int) currentTick & mask];
+            while (head.next != head) {
+                Timeout<T> timeout = head.next;
+                timeout.unlink();
+                if (timeout.deadlineTick > currentTick) {
+                    place(timeout, currentTick);
+                    continue;
+                }
+                size--;
+                fired++;
+                expired.accept(timeout.task);
+            }
+        }
+        return fired;
+    }
+
+    private void cascade(Timeout<T> head) {
+        while (head.next != head) {
+            Timeout<T> timeout = head.next;
+            timeout.unlink();
+            place(timeout, currentTick);
+        }
+    }
+
+    private void place(Timeout<T> timeout, long earliestTick) {
+        long target = Math.max(timeout.deadlineTick, earliestTick);
+        long delta = target - currentTick;
+        int top = buckets.length - 1;
+        int level = 0;
+        while (level < top && delta >= 1L << (bits * (level + 1))) {
+            level++;
+        }
+        if (delta >= 1L << (bits * (top + 1))) {
+            target = currentTick + (1L << (bits * (top + 1))) - 1;
+        }
+        timeout.linkBefore(buckets[level][(int) (target >>> (bits * level)) & mask]);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    public long currentTimeMillis() {
+        return currentTick * tickMillis;
+    }
+
+    public static final class Timeout<T> {
+        private final T task;
+        private final long deadlineTick;
+        private Timeout<T> prev = this;
+        private Timeout<T> next = this;
+
+        private Timeout(T task, long deadlineTick) {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        private void linkBefore(Timeout<T> head) {
+            prev = head.prev;
+            next = head;
+            head.prev.next = this;
+            head.prev = this;
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = this;
+            next = this;
+        }
+
+        public T task() { return task; }
+        public boolean isPending() { return next != this; }
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.util;
+
+import java.time.Duration;
+
+/**
+ * Source of wall-clock time for a lot. Everything that stamps tickets, events or reservations reads
+ * one of these instead of {@link System#currentTimeMillis()}, so a simulation can substitute a
+ * {@link ManualClock} and a hot gate can trade precision for speed with {@link #coarse(Duration)}.
+ */
+public interface LotClock {
+    LotClock SYSTEM = System::currentTimeMillis;
+
+    long currentTimeMillis();
+
+    static CoarseClock coarse(Duration resolution) {
+        return new CoarseClock(resolution);
+    }
+
+    static ManualClock manual(long startMillis) {
+        return new ManualClock(startMillis);
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ManualClock implements LotClock {
+    private final AtomicLong millis;
+
+    public ManualClock(long startMillis) {
+        this.millis = new AtomicLong(startMillis);
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return millis.get();
+    }
+
+    public void set(long timeMillis) {
+        millis.set(timeMillis);
+    }
+
+    public long advance(Duration duration) {
+        return millis.addAndGet(duration.toMillis());
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.util;
+
+public final class Money {
+    public static final long MINOR_UNITS_PER_MAJOR = 100;
+
+    private Money() {
+    }
+
+    public static long ofMajor(double amount) {
+        return Math.round(amount * MINOR_UNITS_PER_MAJOR);
+    }
+
+    public static double toMajor(long minorUnits) {
+        return (double) minorUnits / MINOR_UNITS_PER_MAJOR;
+    }
+
+    public static String format(long minorUnits) {
+        return String.format("%.2f", toMajor(minorUnits));
+    }
+}
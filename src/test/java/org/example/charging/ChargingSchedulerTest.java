@@ -0,0 +1,142 @@
+package org.example.charging;
+
+import org.example.enums.SlotType;
+import org.example.events.EventSink;
+import org.example.models.ParkResult;
+import org.example.models.ParkingLot;
+import org.example.models.ParkingSlot;
+import org.example.models.Ticket;
+import org.example.models.vehicle.ElectricCar;
+import org.example.models.vehicle.ElectricMotorcycle;
+import org.example.payment.CashPayment;
+import org.example.strategy.allocation.NearestSlotStrategy;
+import org.example.strategy.pricing.FlatPricingStrategy;
+import org.example.util.LotClock;
+import org.example.util.ManualClock;
+import org.example.util.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChargingSchedulerTest {
+    private static final long START = 1_000_000L;
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+    private static final ParkingSlot CHARGER = new ParkingSlot("EV1", SlotType.CAR, 1, true);
+
+    @Test
+    void budgetIsWaterFilledAcrossPowerLimits() {
+        ChargingScheduler scheduler = new ChargingScheduler(20_000, 22_000);
+        scheduler.plug(1, new ElectricCar("CAR-1"), CHARGER, START);
+        scheduler.plug(2, new ElectricCar("CAR-2"), CHARGER, START);
+        scheduler.plug(3, new ElectricMotorcycle("MOTO-1"), CHARGER, START);
+
+        assertEquals(3_300, scheduler.powerWatts(3), 1e-6);
+        assertEquals(8_350, scheduler.powerWatts(1), 1e-6);
+        assertEquals(8_350, scheduler.powerWatts(2), 1e-6);
+        assertEquals(20_000, scheduler.getSiteLoadWatts(), 1e-6);
+
+        scheduler.setSiteBudgetWatts(6_000, START);
+        for (long ticketId = 1; ticketId <= 3; ticketId++) {
+            assertEquals(2_000, scheduler.powerWatts(ticketId), 1e-6);
+        }
+
+        scheduler.setSiteBudgetWatts(100_000, START);
+        assertEquals(11_000, scheduler.powerWatts(1), 1e-6);
+        assertEquals(3_300, scheduler.powerWatts(3), 1e-6);
+        assertEquals(25_300, scheduler.getSiteLoadWatts(), 1e-6);
+    }
+
+    @Test
+    void deliveryFollowsBudgetChangesAndStopsWhenFull() {
+        ChargingScheduler scheduler = new ChargingScheduler(5_000, 22_000);
+        ElectricCar car = new ElectricCar("CAR-1");
+        ChargingSession session = scheduler.plug(1, car, CHARGER, START);
+
+        assertEquals(5_000, scheduler.deliveredWh(1, START + HOUR));
+        scheduler.setSiteBudgetWatts(100_000, START + HOUR);
+        assertEquals(16_000, scheduler.deliveredWh(1, START + 2 * HOUR));
+
+        assertEquals(car.getEnergyNeededWh(), scheduler.deliveredWh(1, START + 10 * HOUR));
+        assertEquals(ChargingSession.Status.COMPLETED, session.getStatus());
+        assertEquals(0, scheduler.getChargingCount());
+        assertEquals(0, scheduler.powerWatts(1), 1e-6);
+
+        assertEquals(car.getEnergyNeededWh(), scheduler.unplug(1, START + 11 * HOUR));
+        assertEquals(0, scheduler.getSessionCount());
+    }
+
+    @Test
+    void exitBillsTheMeteredEnergy() {
+        ManualClock clock = LotClock.manual(START);
+        ParkingLot lot = chargerLot(clock);
+        Ticket ticket = lot.parkVehicle(new ElectricCar("EV-1"));
+        clock.advance(Duration.ofHours(1));
+
+        long amount = lot.exitVehicle(ticket.getId(), new CashPayment(EventSink.noOp()));
+        assertEquals(11_000, ticket.getEnergyWh());
+        assertEquals(Money.ofMajor(100.0) + 11 * Money.ofMajor(0.40), amount);
+        assertEquals(0, lot.getChargingScheduler().getSessionCount());
+    }
+
+    @Test
+    void freedChargerGoesToTheEarliestDeparture() {
+        ManualClock clock = LotClock.manual(START);
+        ParkingLot lot = chargerLot(clock);
+        Ticket first = lot.parkVehicle(new ElectricCar("EV-1"));
+
+        assertEquals(ParkResult.Status.QUEUED_FOR_CHARGER,
+                lot.parkOrQueueForCharger(new ElectricCar("LATE-1"), START + 8 * HOUR).status());
+        assertEquals(ParkResult.Status.QUEUED_FOR_CHARGER,
+                lot.parkOrQueueForCharger(new ElectricCar("SOON-1"), START + 2 * HOUR).status());
+        assertEquals(ParkResult.Status.DUPLICATE_ENTRY,
+                lot.parkOrQueueForCharger(new ElectricCar("SOON-1"), START + 3 * HOUR).status());
+        assertEquals(2, lot.getChargingScheduler().getWaitingCount());
+
+        lot.exitVehicle(first.getId(), new CashPayment(EventSink.noOp()));
+        assertNotNull(lot.findTicketByPlate("SOON-1"));
+        assertNull(lot.findTicketByPlate("LATE-1"));
+        assertEquals(1, lot.getChargingScheduler().getWaitingCount());
+    }
+
+    @Test
+    void cancelledAndExpiredRequestsLeaveTheQueue() {
+        ChargingScheduler scheduler = new ChargingScheduler(20_000, 22_000);
+        int chargerClass = CHARGER.getSlotClass();
+        ElectricCar early = new ElectricCar("EARLY-1");
+        ElectricCar late = new ElectricCar("LATE-1");
+
+        assertTrue(scheduler.enqueue(early, START + HOUR, START));
+        assertTrue(scheduler.enqueue(late, START + 4 * HOUR, START));
+        assertTrue(scheduler.cancelWaiting("EARLY-1"));
+        assertFalse(scheduler.cancelWaiting("EARLY-1"));
+        assertEquals(1, scheduler.getWaitingCount());
+        assertSame(late, scheduler.pollWaiting(chargerClass, START).vehicle());
+        assertNull(scheduler.pollWaiting(chargerClass, START));
+
+        assertTrue(scheduler.enqueue(early, START + HOUR, START));
+        assertFalse(scheduler.enqueue(early, START + 3 * HOUR, START));
+        assertTrue(scheduler.enqueue(early, START + 3 * HOUR, START + 2 * HOUR));
+        assertEquals(1, scheduler.getWaitingCount());
+
+        assertTrue(scheduler.enqueue(new ElectricMotorcycle("MOTO-1"), START + 3 * HOUR, START + 2 * HOUR));
+        assertEquals(2, scheduler.getWaitingCount());
+        assertTrue(scheduler.enqueue(late, START + 5 * HOUR, START + 4 * HOUR));
+        assertEquals(1, scheduler.getWaitingCount());
+    }
+
+    private static ParkingLot chargerLot(ManualClock clock) {
+        ParkingLot lot = new ParkingLot("Charger Lot", new NearestSlotStrategy(), new FlatPricingStrategy());
+        lot.setEventSink(EventSink.noOp());
+        lot.setClock(clock);
+        lot.setChargingScheduler(new ChargingScheduler(100_000, 22_000));
+        lot.addSlot(new ParkingSlot("EV1", SlotType.CAR, 1, true));
+        return lot;
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.enums;
+
+import org.example.models.ParkingSlot;
+import org.example.models.vehicle.Car;
+import org.example.models.vehicle.Vehicle;
+import org.example.models.vehicle.VehicleFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VehicleTypeTest {
+
+    @Test
+    void masksMatchTheSizeAndChargerRules() {
+        for (VehicleType vehicleType : VehicleType.values()) {
+            for (SlotType slotType : SlotType.values()) {
+                for (boolean charging : new boolean[] {false, true}) {
+                    int slotClass = slotType.classIndex(charging);
+                    boolean fits = slotType.canFit(vehicleType);
+                    String label = vehicleType + " in " + slotType + (charging ? " charger" : "");
+                    assertEquals(fits && (charging || !vehicleType.isElectric()), vehicleType.accepts(slotClass),
+                            label);
+                    assertEquals(fits && !charging && vehicleType.isElectric(),
+                            (vehicleType.getClassesWithoutCharger() & (1 << slotClass)) != 0, label);
+                    assertEquals(slotType, SlotType.ofClass(slotClass));
+                    assertEquals(charging, SlotType.isChargingClass(slotClass));
+                }
+            }
+        }
+    }
+
+    @Test
+    void slotsUseTheMaskAndRejectOnceTaken() {
+        ParkingSlot plain = new ParkingSlot("C1", SlotType.CAR, 1, false);
+        Vehicle electric = VehicleFactory.create(VehicleType.ELECTRIC_CAR, "EV-1");
+
+        assertFalse(plain.canFit(electric));
+        assertTrue(plain.canFit(new Car("CAR-1")));
+        plain.parkVehicle(new Car("CAR-1"));
+        assertFalse(plain.canFit(new Car("CAR-2")));
+    }
+}
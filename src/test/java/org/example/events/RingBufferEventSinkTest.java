@@ -0,0 +1,57 @@
+package org.example.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RingBufferEventSinkTest {
+
+    @Test
+    void eventsReachTheConsumerInOrder() {
+        List<Long> seen = new ArrayList<>();
+        try (RingBufferEventSink sink = new RingBufferEventSink(8, event -> {
+            if (event.getTicketId() == 3) {
+                throw new IllegalStateException("bad consumer");
+            }
+            seen.add(event.getTicketId());
+        })) {
+            for (long ticketId = 1; ticketId <= 100; ticketId++) {
+                sink.publish(EventType.VEHICLE_PARKED, ticketId, 0, null, null, null, null);
+                sink.flush();
+            }
+            assertEquals(0, sink.getDropped());
+            assertEquals(1, sink.getConsumerErrors());
+        }
+        assertEquals(99, seen.size());
+        assertEquals(2L, seen.get(1));
+        assertEquals(4L, seen.get(2));
+        assertEquals(100L, seen.get(98));
+    }
+
+    @Test
+    void aFullRingDropsInsteadOfBlocking() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        try (RingBufferEventSink sink = new RingBufferEventSink(4, event -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        })) {
+            for (int i = 0; i < 20; i++) {
+                sink.publish(EventType.VEHICLE_EXITED, i, 0, null, null, null, null);
+            }
+            assertTrue(sink.getDropped() >= 15);
+            release.countDown();
+            sink.flush();
+        }
+        assertThrows(IllegalArgumentException.class, () -> new RingBufferEventSink(6, event -> { }));
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.metrics;
+
+import org.example.events.EventSink;
+import org.example.models.ParkingLot;
+import org.example.payment.CardPayment;
+import org.example.payment.CashPayment;
+import org.example.strategy.allocation.NearestSlotStrategy;
+import org.example.strategy.pricing.FlatPricingStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParkingMetricsTest {
+
+    @Test
+    void alternatingImplementationsRecordSeparatelyWithoutAllocating() {
+        ParkingMetrics metrics = new ParkingMetrics();
+        for (int i = 0; i < 20_000; i++) {
+            metrics.record(Operation.PAY, i % 2 == 0 ? CashPayment.class : CardPayment.class, i);
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 100_000; i++) {
+            metrics.record(Operation.PAY, i % 2 == 0 ? CashPayment.class : CardPayment.class, i);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        assertTrue(allocated < 10_000, "Recording allocated " + allocated + " bytes");
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(60_000, snapshot.byImplementation().get(Operation.PAY).get("CashPayment").count());
+        assertEquals(60_000, snapshot.byImplementation().get(Operation.PAY).get("CardPayment").count());
+        assertEquals(120_000, snapshot.operation(Operation.PAY).count());
+    }
+
+    @Test
+    void disabledMetricsAreNotBoundToALot() {
+        ParkingLot lot = new ParkingLot("Metrics Lot", new NearestSlotStrategy(), new FlatPricingStrategy());
+        lot.setEventSink(EventSink.noOp());
+        lot.setMetrics(ParkingMetrics.DISABLED);
+        assertNull(ParkingMetrics.DISABLED.snapshot().occupancy());
+
+        ParkingMetrics metrics = new ParkingMetrics();
+        lot.setMetrics(metrics);
+        assertNotNull(metrics.snapshot().occupancy());
+    }
+}
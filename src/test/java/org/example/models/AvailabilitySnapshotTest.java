@@ -0,0 +1,101 @@
+package org.example.models;
+
+import org.example.enums.SlotType;
+import org.example.events.EventSink;
+import org.example.models.vehicle.Car;
+import org.example.models.vehicle.ElectricCar;
+import org.example.models.vehicle.Motorcycle;
+import org.example.payment.CashPayment;
+import org.example.strategy.allocation.NearestSlotStrategy;
+import org.example.strategy.pricing.FlatPricingStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AvailabilitySnapshotTest {
+    private static final int GATES = 3;
+    private static final int SLOTS = 20_000;
+
+    @Test
+    void countsFollowParksAndExits() {
+        ParkingLot lot = new ParkingLot("Count Lot", new NearestSlotStrategy(), new FlatPricingStrategy());
+        lot.setEventSink(EventSink.noOp());
+        lot.addSlot(new ParkingSlot("B1", SlotType.MOTORCYCLE, 1, false));
+        lot.addSlot(new ParkingSlot("C1", SlotType.CAR, 1, false));
+        lot.addSlot(new ParkingSlot("C2", SlotType.CAR, 1, false));
+        lot.addSlot(new ParkingSlot("CC1", SlotType.CAR, 1, true));
+        lot.addSlot(new ParkingSlot("T1", SlotType.TRUCK, 2, false));
+
+        lot.parkVehicle(new ElectricCar("EV-1"));
+        Ticket car = lot.parkVehicle(new Car("CAR-1"));
+        lot.parkVehicle(new Motorcycle("MOTO-1"));
+
+        AvailabilitySnapshot snapshot = lot.getAvailability();
+        assertEquals(new AvailabilitySnapshot.SlotCount(3, 2), snapshot.slotType(SlotType.CAR));
+        assertEquals(new AvailabilitySnapshot.SlotCount(1, 1), snapshot.slotType(SlotType.MOTORCYCLE));
+        assertEquals(new AvailabilitySnapshot.SlotCount(1, 0), snapshot.slotType(SlotType.TRUCK));
+        assertEquals(new AvailabilitySnapshot.SlotCount(1, 1), snapshot.charging());
+        assertEquals(new AvailabilitySnapshot.SlotCount(4, 3), snapshot.floor(1));
+        assertEquals(new AvailabilitySnapshot.SlotCount(1, 0), snapshot.floor(2));
+        assertEquals(AvailabilitySnapshot.SlotCount.EMPTY, snapshot.floor(9));
+        assertEquals(1, snapshot.available(SlotType.CAR, false));
+        assertEquals(0, snapshot.available(SlotType.CAR, true));
+        assertEquals(3, snapshot.activeTickets());
+
+        lot.exitVehicle(car.getId(), new CashPayment(EventSink.noOp()));
+        AvailabilitySnapshot after = lot.getAvailability();
+        assertEquals(new AvailabilitySnapshot.SlotCount(3, 1), after.slotType(SlotType.CAR));
+        assertEquals(new AvailabilitySnapshot.SlotCount(4, 2), after.floor(1));
+        assertEquals(2, after.available(SlotType.CAR, false));
+        assertEquals(2, after.activeTickets());
+    }
+
+    @Test
+    void slotsAddedWhileGatesParkAreCountedOnce() throws Exception {
+        ParkingLot lot = new ParkingLot("Growing Lot", new NearestSlotStrategy(), new FlatPricingStrategy());
+        lot.setEventSink(EventSink.noOp());
+        AtomicBoolean adding = new AtomicBoolean(true);
+        try (ExecutorService gates = Executors.newFixedThreadPool(GATES)) {
+            List<CompletableFuture<Void>> parkers = new ArrayList<>();
+            for (int g = 0; g < GATES; g++) {
+                String gate = "GATE" + g + "-";
+                parkers.add(CompletableFuture.runAsync(() -> {
+                    for (int parked = 0; adding.get(); ) {
+                        if (lot.tryPark(new Car(gate + parked)).status() == ParkResult.Status.PARKED) {
+                            parked++;
+                        }
+                    }
+                }, gates));
+            }
+            for (int floor = 0; floor < SLOTS; floor++) {
+                lot.addSlot(new ParkingSlot("G" + floor, SlotType.CAR, floor, false));
+            }
+            adding.set(false);
+            parkers.forEach(CompletableFuture::join);
+        }
+
+        AvailabilitySnapshot snapshot = lot.getAvailability();
+        long occupied = lot.getSlots().stream().filter(ParkingSlot::isOccupied).count();
+        assertEquals(occupied, snapshot.slotType(SlotType.CAR).occupied());
+        assertEquals(SLOTS, snapshot.slotType(SlotType.CAR).total());
+        long floorsOccupied = snapshot.byFloor().values().stream()
+                .mapToLong(AvailabilitySnapshot.SlotCount::occupied).sum();
+        assertEquals(occupied, floorsOccupied);
+    }
+
+    @Test
+    void occupiedSlotsCannotBeAdded() {
+        ParkingLot lot = new ParkingLot("Strict Lot", new NearestSlotStrategy(), new FlatPricingStrategy());
+        ParkingSlot slot = new ParkingSlot("P1", SlotType.CAR, 1, false);
+        slot.parkVehicle(new Car("EARLY-1"));
+        assertThrows(IllegalArgumentException.class, () -> lot.addSlot(slot));
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.models;
+
+import org.example.enums.SlotType;
+import org.example.models.vehicle.Car;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactSlotStoreTest {
+    private static final int WORKERS = 4;
+
+    @Test
+    void occupiedSlotsAlwaysHaveAVehicle() throws Exception {
+        CompactSlotStore store = new CompactSlotStore(4096);
+        for (int i = 0; i < store.capacity(); i++) {
+            store.addSlot("C" + i, SlotType.CAR, 1 + i / 1000, false);
+        }
+        int carClasses = new Car("PROBE").getType().getCompatibleClasses();
+        List<List<Integer>> parked = new ArrayList<>();
+        for (int t = 0; t < WORKERS; t++) {
+            parked.add(new ArrayList<>());
+        }
+        for (int round = 0; round < 20; round++) {
+            int fill = round;
+            race(store, worker -> {
+                for (int index; (index = store.findFirstFree(carClasses)) >= 0; ) {
+                    if (store.tryPark(index, new Car("R" + fill + "-" + index))) {
+                        parked.get(worker).add(index);
+                    }
+                }
+            }, index -> store.isOccupied(index) && store.getParkedVehicle(index) == null);
+            assertEquals(0, store.countFree(carClasses));
+
+            race(store, worker -> {
+                for (int index : parked.get(worker)) {
+                    assertNotNull(store.removeVehicle(index));
+                }
+                parked.get(worker).clear();
+            }, index -> store.getParkedVehicle(index) == null && store.isOccupied(index));
+            assertEquals(store.size(), store.countFree(carClasses));
+        }
+    }
+
+    private static void race(CompactSlotStore store, IntConsumer work, IntPredicate torn) throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger tornReads = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(WORKERS + 1)) {
+            Future<?> reader = executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (running.get()) {
+                    if (torn.test(random.nextInt(store.size()))) {
+                        tornReads.incrementAndGet();
+                    }
+                }
+            });
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < WORKERS; t++) {
+                int worker = t;
+                workers.add(executor.submit(() -> work.accept(worker)));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+            running.set(false);
+            reader.get();
+        }
+        assertEquals(0, tornReads.get());
+    }
+
+    @Test
+    void parksOnlyCompatibleVehiclesOnce() {
+        CompactSlotStore store = new CompactSlotStore(2);
+        int motorcycleSlot = store.addSlot("M1", SlotType.MOTORCYCLE, 1, false);
+        int carSlot = store.addSlot("C1", SlotType.CAR, 1, false);
+        Car car = new Car("CAR-1");
+
+        assertFalse(store.tryPark(motorcycleSlot, car));
+        assertTrue(store.tryPark(carSlot, car));
+        assertFalse(store.tryPark(carSlot, new Car("CAR-2")));
+        assertEquals(-1, store.findFirstFree(car.getType().getCompatibleClasses()));
+        assertSame(car, store.removeVehicle(carSlot));
+        assertNull(store.getParkedVehicle(carSlot));
+        assertEquals(carSlot, store.findFirstFree(car.getType().getCompatibleClasses()));
+    }
+
+    @Test
+    void cursorMirrorsTheParkingSlotView() {
+        CompactSlotStore store = new CompactSlotStore(3);
+        ParkingSlot[] slots = {
+                new ParkingSlot("F1-001", SlotType.MOTORCYCLE, 1, false),
+                new ParkingSlot("F2-017", SlotType.CAR, 2, true),
+                new ParkingSlot("F-3-TRUCK", SlotType.TRUCK, -3, false)
+        };
+        for (ParkingSlot slot : slots) {
+            store.addSlot(slot.getSlotId(), slot.getType(), slot.getFloor(), slot.hasChargingStation());
+        }
+
+        CompactSlotStore.Cursor cursor = store.cursor();
+        for (ParkingSlot slot : slots) {
+            cursor.moveTo(store.indexOf(slot.getSlotId()));
+            assertEquals(slot.getSlotId(), cursor.getSlotId());
+            assertEquals(slot.getType(), cursor.getType());
+            assertEquals(slot.getFloor(), cursor.getFloor());
+            assertEquals(slot.hasChargingStation(), cursor.hasChargingStation());
+            assertEquals(slot.getSlotClass(), cursor.getSlotClass());
+            assertEquals(slot.toString(), cursor.toString());
+        }
+        assertEquals(-1, store.indexOf("F9-999"));
+
+        Car car = new Car("CUR-1");
+        cursor.moveTo(store.indexOf("F2-017"));
+        assertTrue(cursor.canFit(car));
+        assertTrue(cursor.tryPark(car));
+        assertSame(car, cursor.getParkedVehicle());
+        assertFalse(cursor.isAvailable());
+        assertSame(car, cursor.removeVehicle());
+        assertTrue(cursor.isAvailable());
+    }
+
+    @Test
+    void lookupsRaceSafelyWithAddSlot() throws Exception {
+        int capacity = 50_000;
+        CompactSlotStore store = new CompactSlotStore(capacity);
+        AtomicInteger misses = new AtomicInteger();
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<?> reader = executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (store.size() < capacity) {
+                    int count = store.size();
+                    if (count > 0) {
+                        int index = random.nextInt(count);
+                        if (store.indexOf(longId(index)) != index) {
+                            misses.incrementAndGet();
+                        }
+                    }
+                }
+            });
+            for (int i = 0; i < capacity; i++) {
+                store.addSlot(longId(i), SlotType.CAR, 1, false);
+            }
+            reader.get();
+        }
+        assertEquals(0, misses.get());
+    }
+
+    private static String longId(int index) {
+        return "LEVEL-" + (index / 1000) + "-BAY-" + index;
+    }
+}
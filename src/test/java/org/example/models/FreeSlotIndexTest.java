@@ -0,0 +1,112 @@
+package org.example.models;
+
+import org.example.enums.SlotType;
+import org.example.enums.VehicleType;
+import org.example.events.EventSink;
+import org.example.models.vehicle.Car;
+import org.example.models.vehicle.Motorcycle;
+import org.example.models.vehicle.Truck;
+import org.example.models.vehicle.Vehicle;
+import org.example.models.vehicle.VehicleFactory;
+import org.example.strategy.allocation.NearestSlotStrategy;
+import org.example.strategy.pricing.FlatPricingStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class FreeSlotIndexTest {
+    private static final Comparator<ParkingSlot> NEAREST =
+            Comparator.comparing(ParkingSlot::getFloor).thenComparing(ParkingSlot::getSlotId);
+
+    @Test
+    void bitsetSearchMatchesTheComparatorScan() {
+        for (long seed = 0; seed < 300; seed++) {
+            checkLayout(seed);
+        }
+    }
+
+    private static void checkLayout(long seed) {
+        Random random = new Random(seed);
+        ParkingLot lot = new ParkingLot("Index Lot", new NearestSlotStrategy(), new FlatPricingStrategy());
+        lot.setEventSink(EventSink.noOp());
+        List<ParkingSlot> slots = randomSlots(random, random.nextInt(10) == 0 ? 5000 : 1 + random.nextInt(700));
+
+        int initial = random.nextInt(slots.size() + 1);
+        for (ParkingSlot slot : slots.subList(0, initial)) {
+            lot.addSlot(slot);
+            toggle(slot, random.nextInt(3) == 0);
+        }
+        assertSameAsScan(lot, slots.subList(0, initial), seed);
+
+        for (ParkingSlot slot : slots.subList(initial, slots.size())) {
+            lot.addSlot(slot);
+            toggle(slot, random.nextInt(3) == 0);
+        }
+        assertSameAsScan(lot, slots, seed);
+
+        for (int round = 0; round < 20; round++) {
+            double fill = random.nextDouble();
+            for (int i = random.nextInt(slots.size()) + 1; i > 0; i--) {
+                toggle(slots.get(random.nextInt(slots.size())), random.nextDouble() < fill);
+            }
+            assertSameAsScan(lot, slots, seed);
+        }
+    }
+
+    private static List<ParkingSlot> randomSlots(Random random, int count) {
+        SlotType[] types = SlotType.values();
+        int floors = 1 + random.nextInt(5);
+        Set<String> ids = new HashSet<>();
+        List<ParkingSlot> slots = new ArrayList<>();
+        while (slots.size() < count) {
+            String id = (char) ('A' + random.nextInt(4)) + Integer.toString(random.nextInt(count * 4));
+            if (ids.add(id)) {
+                slots.add(new ParkingSlot(id, types[random.nextInt(types.length)],
+                        random.nextInt(floors), random.nextInt(4) == 0));
+            }
+        }
+        Collections.shuffle(slots, random);
+        return slots;
+    }
+
+    private static void toggle(ParkingSlot slot, boolean occupied) {
+        if (occupied && slot.isAvailable()) {
+            slot.parkVehicle(occupantFor(slot));
+        } else if (!occupied && slot.isOccupied()) {
+            slot.removeVehicle();
+        }
+    }
+
+    private static Vehicle occupantFor(ParkingSlot slot) {
+        switch (slot.getType()) {
+            case MOTORCYCLE:
+                return new Motorcycle("M-" + slot.getSlotId());
+            case CAR:
+                return new Car("C-" + slot.getSlotId());
+            default:
+                return new Truck("T-" + slot.getSlotId());
+        }
+    }
+
+    private static void assertSameAsScan(ParkingLot lot, List<ParkingSlot> slots, long seed) {
+        NearestSlotStrategy nearest = new NearestSlotStrategy();
+        for (VehicleType type : VehicleType.values()) {
+            Vehicle vehicle = VehicleFactory.create(type, "PROBE");
+            ParkingSlot expected = slots.stream()
+                    .filter(ParkingSlot::isAvailable)
+                    .filter(slot -> slot.canFit(vehicle))
+                    .min(NEAREST)
+                    .orElse(null);
+            assertSame(expected, nearest.findSlot(lot.getFreeSlots(), vehicle),
+                    "seed " + seed + ", " + type);
+        }
+    }
+}
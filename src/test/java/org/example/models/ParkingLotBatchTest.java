@@ -0,0 +1,148 @@
+package org.example.models;
+
+import org.example.enums.SlotType;
+import org.example.events.EventSink;
+import org.example.events.EventType;
+import org.example.models.vehicle.Car;
+import org.example.models.vehicle.Motorcycle;
+import org.example.models.vehicle.Truck;
+import org.example.models.vehicle.Vehicle;
+import org.example.payment.PaymentMethod;
+import org.example.strategy.allocation.NearestSlotStrategy;
+import org.example.strategy.pricing.FlatPricingStrategy;
+import org.example.util.Money;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParkingLotBatchTest {
+
+    @Test
+    void parkBatchAnswersEveryVehicleInOrder() {
+        Map<EventType, Integer> events = new EnumMap<>(EventType.class);
+        ParkingLot lot = newLot(events, 2);
+        lot.addSlot(new ParkingSlot("M1", SlotType.MOTORCYCLE, 1, false));
+        List<Vehicle> vehicles = List.of(new Car("CAR-1"), new Truck("TRUCK-1"), new Car("CAR-2"),
+                new Car("CAR-3"), new Motorcycle("MOTO-1"));
+
+        List<ParkResult> results = lot.parkVehicles(vehicles);
+        List<ParkResult.Status> expected = List.of(ParkResult.Status.PARKED, ParkResult.Status.NO_COMPATIBLE_SLOT,
+                ParkResult.Status.PARKED, ParkResult.Status.NO_COMPATIBLE_SLOT, ParkResult.Status.PARKED);
+        Set<String> slots = new HashSet<>();
+        for (int i = 0; i < vehicles.size(); i++) {
+            ParkResult result = results.get(i);
+            assertSame(vehicles.get(i), result.vehicle());
+            assertEquals(expected.get(i), result.status(), vehicles.get(i).getLicensePlate());
+            if (result.isParked()) {
+                assertTrue(slots.add(result.ticket().getSlotId()));
+                assertSame(result.ticket(), lot.findTicketByPlate(vehicles.get(i).getLicensePlate()));
+            }
+        }
+        assertEquals(3, events.get(EventType.VEHICLE_PARKED));
+
+        lot.setClosed(true);
+        for (ParkResult result : lot.parkVehicles(List.of(new Car("LATE-1"), new Car("LATE-2")))) {
+            assertEquals(ParkResult.Status.LOT_CLOSED, result.status());
+        }
+    }
+
+    @Test
+    void exitBatchSettlesOncePerPaymentMethod() {
+        Map<EventType, Integer> events = new EnumMap<>(EventType.class);
+        ParkingLot lot = newLot(events, 3);
+        Ticket first = lot.parkVehicle(new Car("CAR-1"));
+        Ticket second = lot.parkVehicle(new Car("CAR-2"));
+        Ticket third = lot.parkVehicle(new Car("CAR-3"));
+        BatchPayment card = new BatchPayment(true);
+        BatchPayment declined = new BatchPayment(false);
+
+        List<ExitResult> results = lot.exitVehicles(List.of(
+                new ExitRequest(first.getId(), card),
+                new ExitRequest(second.getId(), declined),
+                new ExitRequest(first.getId() + 1_000_000, card),
+                new ExitRequest(first.getId(), card),
+                new ExitRequest(third.getId(), card)));
+
+        assertEquals(ExitResult.Status.EXITED, results.get(0).status());
+        assertEquals(ExitResult.Status.PAYMENT_FAILED, results.get(1).status());
+        assertEquals(ExitResult.Status.INVALID_TICKET, results.get(2).status());
+        assertEquals(ExitResult.Status.EXIT_IN_PROGRESS, results.get(3).status());
+        assertEquals(ExitResult.Status.EXITED, results.get(4).status());
+        assertEquals(Money.ofMajor(100.0), results.get(0).amount());
+        assertEquals(List.of(2), card.batches);
+        assertEquals(List.of(1), declined.batches);
+        assertEquals(2, events.get(EventType.VEHICLE_EXITED));
+
+        assertNotNull(lot.getTicket(second.getId()));
+        assertEquals(0, second.getExitTimeMillis());
+        assertEquals(ExitResult.Status.EXITED,
+                lot.exitVehicles(List.of(new ExitRequest(second.getId(), card))).get(0).status());
+        assertTrue(lot.getActiveTickets().isEmpty());
+    }
+
+    @Test
+    void throwingProviderFailsOnlyItsGroup() {
+        ParkingLot lot = newLot(new EnumMap<>(EventType.class), 2);
+        Ticket first = lot.parkVehicle(new Car("CAR-1"));
+        Ticket second = lot.parkVehicle(new Car("CAR-2"));
+        PaymentMethod broken = new BatchPayment(true) {
+            @Override
+            public boolean[] processPayments(long[] amounts) {
+                throw new IllegalStateException("provider offline");
+            }
+        };
+
+        List<ExitResult> results = lot.exitVehicles(List.of(new ExitRequest(first.getId(), broken),
+                new ExitRequest(second.getId(), new BatchPayment(true))));
+        assertEquals(ExitResult.Status.PAYMENT_FAILED, results.get(0).status());
+        assertEquals(ExitResult.Status.EXITED, results.get(1).status());
+        assertTrue(first.tryBeginExit());
+    }
+
+    private static ParkingLot newLot(Map<EventType, Integer> events, int carSlots) {
+        ParkingLot lot = new ParkingLot("Batch Lot", new NearestSlotStrategy(), new FlatPricingStrategy());
+        lot.setEventSink(EventSink.direct(event -> events.merge(event.getType(), 1, Integer::sum)));
+        for (int i = 1; i <= carSlots; i++) {
+            lot.addSlot(new ParkingSlot("C" + i, SlotType.CAR, 1, false));
+        }
+        return lot;
+    }
+
+    private static class BatchPayment implements PaymentMethod {
+        private final boolean approve;
+        private final List<Integer> batches = new ArrayList<>();
+
+        BatchPayment(boolean approve) {
+            this.approve = approve;
+        }
+
+        @Override
+        public boolean processPayment(long amount) {
+            return processPayments(new long[] {amount})[0];
+        }
+
+        @Override
+        public boolean[] processPayments(long[] amounts) {
+            batches.add(amounts.length);
+            boolean[] results = new boolean[amounts.length];
+            Arrays.fill(results, approve);
+            return results;
+        }
+
+        @Override
+        public String getPaymentType() {
+            return "Batch";
+        }
+    }
+}
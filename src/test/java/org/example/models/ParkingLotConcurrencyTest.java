@@ -0,0 +1,168 @@
+package org.example.models;
+
+import org.example.enums.SlotType;
+import org.example.events.EventSink;
+import org.example.models.vehicle.Car;
+import org.example.models.vehicle.ElectricCar;
+import org.example.models.vehicle.Motorcycle;
+import org.example.models.vehicle.Truck;
+import org.example.models.vehicle.Vehicle;
+import org.example.payment.CashPayment;
+import org.example.payment.PaymentMethod;
+import org.example.strategy.allocation.BestFitSlotStrategy;
+import org.example.strategy.allocation.NearestSlotStrategy;
+import org.example.strategy.allocation.RandomSlotStrategy;
+import org.example.strategy.allocation.SlotAllocationStrategy;
+import org.example.strategy.pricing.FlatPricingStrategy;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParkingLotConcurrencyTest {
+    private static final int THREADS = 8;
+    private static final int OPERATIONS = 20_000;
+    private static final int FLOORS = 3;
+    private static final int SLOTS_PER_FLOOR = 24;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"nearest", "random", "bestfit"})
+    void concurrentGatesNeverShareASlot(String strategy) throws Exception {
+        ParkingLot lot = newLot(strategy(strategy));
+        ConcurrentMap<String, Long> owners = new ConcurrentHashMap<>();
+        List<String> doubleAllocations = new ArrayList<>();
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        ExecutorService gates = Executors.newFixedThreadPool(THREADS);
+        List<Future<List<Ticket>>> results = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            int gate = t;
+            results.add(gates.submit(() -> {
+                Random random = new Random(gate);
+                PaymentMethod payment = new CashPayment(EventSink.noOp());
+                List<Ticket> parked = new ArrayList<>();
+                start.await();
+                for (int i = 0; i < OPERATIONS; i++) {
+                    if (parked.isEmpty() || random.nextInt(3) > 0) {
+                        ParkResult result = lot.tryPark(vehicle(random, "G" + gate + "-" + i));
+                        if (!result.isParked()) {
+                            continue;
+                        }
+                        Ticket ticket = result.ticket();
+                        Long previous = owners.putIfAbsent(ticket.getSlotId(), ticket.getId());
+                        if (previous != null) {
+                            synchronized (doubleAllocations) {
+                                doubleAllocations.add(ticket.getSlotId());
+                            }
+                        }
+                        parked.add(ticket);
+                    } else {
+                        Ticket ticket = parked.remove(random.nextInt(parked.size()));
+                        owners.remove(ticket.getSlotId(), ticket.getId());
+                        ExitResult exit = lot.tryExit(ticket.getId(), payment);
+                        assertEquals(ExitResult.Status.EXITED, exit.status());
+                    }
+                }
+                return parked;
+            }));
+        }
+
+        List<Ticket> stillParked = new ArrayList<>();
+        for (Future<List<Ticket>> result : results) {
+            stillParked.addAll(result.get(60, TimeUnit.SECONDS));
+        }
+        gates.shutdown();
+
+        assertTrue(doubleAllocations.isEmpty(), "Slots handed out twice: " + doubleAllocations);
+        assertConsistent(lot, stillParked);
+
+        PaymentMethod payment = new CashPayment(EventSink.noOp());
+        for (Ticket ticket : stillParked) {
+            assertEquals(ExitResult.Status.EXITED, lot.tryExit(ticket.getId(), payment).status());
+        }
+        assertConsistent(lot, List.of());
+    }
+
+    private static void assertConsistent(ParkingLot lot, List<Ticket> expected) {
+        Map<String, Ticket> ticketsBySlot = new HashMap<>();
+        for (Ticket ticket : lot.getTickets()) {
+            assertNull(ticketsBySlot.put(ticket.getSlotId(), ticket), "Two active tickets for " + ticket.getSlotId());
+        }
+        assertEquals(expected.size(), ticketsBySlot.size());
+        for (Ticket ticket : expected) {
+            assertSame(ticket, ticketsBySlot.get(ticket.getSlotId()));
+        }
+
+        int free = 0;
+        for (ParkingSlot slot : lot.getSlots()) {
+            Ticket ticket = ticketsBySlot.get(slot.getSlotId());
+            if (slot.isOccupied()) {
+                assertNotNull(ticket, "Occupied slot without a ticket: " + slot.getSlotId());
+                assertEquals(ticket.getVehicleLicense(), slot.getParkedVehicle().getLicensePlate());
+            } else {
+                assertNull(ticket, "Ticket for a free slot: " + slot.getSlotId());
+                free++;
+            }
+        }
+        int indexed = 0;
+        for (int slotClass = 0; slotClass < SlotType.CLASS_COUNT; slotClass++) {
+            indexed += lot.getFreeSlots().freeCount(slotClass);
+        }
+        assertEquals(free, indexed);
+        assertEquals(expected.size(), lot.getAvailability().activeTickets());
+    }
+
+    private static ParkingLot newLot(SlotAllocationStrategy strategy) {
+        ParkingLot lot = new ParkingLot("Stress Lot", strategy, new FlatPricingStrategy());
+        lot.setEventSink(EventSink.noOp());
+        for (int floor = 1; floor <= FLOORS; floor++) {
+            for (int i = 0; i < SLOTS_PER_FLOOR; i++) {
+                int mod = i % 6;
+                SlotType type = mod == 0 ? SlotType.MOTORCYCLE : mod == 5 ? SlotType.TRUCK : SlotType.CAR;
+                lot.addSlot(new ParkingSlot(String.format("F%d-%03d", floor, i), type, floor, mod == 2));
+            }
+        }
+        return lot;
+    }
+
+    private static SlotAllocationStrategy strategy(String name) {
+        switch (name) {
+            case "random":
+                return new RandomSlotStrategy();
+            case "bestfit":
+                return new BestFitSlotStrategy();
+            default:
+                return new NearestSlotStrategy();
+        }
+    }
+
+    private static Vehicle vehicle(Random random, String plate) {
+        switch (random.nextInt(6)) {
+            case 0:
+                return new Motorcycle(plate);
+            case 1:
+                return new Truck(plate);
+            case 2:
+                return new ElectricCar(plate);
+            default:
+                return new Car(plate);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.models;
+
+import org.example.enums.SlotType;
+import org.example.models.vehicle.Car;
+import org.example.models.vehicle.Vehicle;
+import org.example.payment.PaymentMethod;
+import org.example.persistence.LotJournal;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParkingLotJournalTest {
+
+    @Test
+    void rejectedParkRecordFreesTheSlot() {
+        ParkingLot lot = ParkingLotPaymentTest.newLot();
+        lot.setJournal(new FailingJournal());
+
+        assertEquals(ParkResult.Status.JOURNAL_FAILED, lot.tryPark(new Car("JRN-1")).status());
+        assertNull(lot.findTicketByPlate("JRN-1"));
+        assertTrue(lot.getActiveTickets().isEmpty());
+        assertTrue(lot.getSlot("A1").isAvailable());
+        assertEquals(0, lot.getAvailability().slotType(SlotType.CAR).occupied());
+    }
+
+    @Test
+    void rejectedBatchRecordRollsBackEveryPark() {
+        ParkingLot lot = ParkingLotPaymentTest.newLot();
+        lot.setJournal(new FailingJournal());
+
+        List<ParkResult> results = lot.parkVehicles(List.of(new Car("JRN-1"), new Car("JRN-2")));
+        for (ParkResult result : results) {
+            assertEquals(ParkResult.Status.JOURNAL_FAILED, result.status());
+        }
+        assertTrue(lot.getActiveTickets().isEmpty());
+        assertTrue(lot.getSlot("A1").isAvailable());
+        assertTrue(lot.getSlot("A2").isAvailable());
+    }
+
+    @Test
+    void rejectedReservedParkKeepsTheReservationHeld() {
+        ParkingLot lot = ParkingLotPaymentTest.newLot();
+        Reservation reservation = lot.reserve(SlotType.CAR, false, Duration.ofMinutes(5));
+        lot.setJournal(new FailingJournal());
+
+        ParkResult result = lot.parkReserved(reservation.getId(), new Car("JRN-1"));
+        assertEquals(ParkResult.Status.JOURNAL_FAILED, result.status());
+        assertNull(lot.findTicketByPlate("JRN-1"));
+        assertSame(reservation, lot.getReservation(reservation.getId()));
+        assertTrue(reservation.getSlot().isHeld());
+
+        lot.setJournal(LotJournal.NO_OP);
+        assertEquals(ParkResult.Status.PARKED, lot.parkReserved(reservation.getId(), new Car("JRN-1")).status());
+    }
+
+    @Test
+    void fieldsTooLongForTheJournalAreRejectedUpFront() {
+        ParkingLot lot = ParkingLotPaymentTest.newLot();
+        String plate = "X".repeat(LotJournal.MAX_FIELD_BYTES + 1);
+
+        assertEquals(ParkResult.Status.INVALID_PLATE, lot.tryPark(new Car(plate)).status());
+        assertTrue(lot.getSlot("A1").isAvailable());
+        assertThrows(IllegalArgumentException.class,
+                () -> lot.addSlot(new ParkingSlot(plate, SlotType.CAR, 1, false)));
+        assertEquals(ParkResult.Status.PARKED,
+                lot.tryPark(new Car("X".repeat(LotJournal.MAX_FIELD_BYTES))).status());
+    }
+
+    @Test
+    void rejectedExitRecordKeepsThePaymentForTheRetry() {
+        ParkingLot lot = ParkingLotPaymentTest.newLot();
+        Ticket ticket = lot.parkVehicle(new Car("JRN-1"));
+        AtomicInteger charges = new AtomicInteger();
+        PaymentMethod counting = counting(charges);
+        lot.setJournal(new FailingJournal());
+
+        ExitResult failed = lot.tryExit(ticket.getId(), counting);
+        assertEquals(ExitResult.Status.JOURNAL_FAILED, failed.status());
+        assertSame(ticket, lot.getTicket(ticket.getId()));
+        assertTrue(lot.getSlot("A1").isOccupied());
+        assertEquals(1, charges.get());
+
+        lot.setJournal(LotJournal.NO_OP);
+        ExitResult retried = lot.tryExit(ticket.getId(), counting);
+        assertEquals(ExitResult.Status.EXITED, retried.status());
+        assertEquals(failed.amount(), retried.amount());
+        assertEquals(1, charges.get());
+        assertTrue(lot.getSlot("A1").isAvailable());
+    }
+
+    @Test
+    void rejectedBatchExitRecordLeavesTheTicketsPaid() {
+        ParkingLot lot = ParkingLotPaymentTest.newLot();
+        Ticket first = lot.parkVehicle(new Car("JRN-1"));
+        Ticket second = lot.parkVehicle(new Car("JRN-2"));
+        AtomicInteger charges = new AtomicInteger();
+        PaymentMethod counting = counting(charges);
+        List<ExitRequest> requests = List.of(new ExitRequest(first.getId(), counting),
+                new ExitRequest(second.getId(), counting));
+        lot.setJournal(new FailingJournal());
+
+        for (ExitResult result : lot.exitVehicles(requests)) {
+            assertEquals(ExitResult.Status.JOURNAL_FAILED, result.status());
+        }
+        assertEquals(2, lot.getActiveTickets().size());
+        assertEquals(2, charges.get());
+
+        lot.setJournal(LotJournal.NO_OP);
+        for (ExitResult result : lot.exitVehicles(requests)) {
+            assertEquals(ExitResult.Status.EXITED, result.status());
+        }
+        assertEquals(2, charges.get());
+        assertTrue(lot.getActiveTickets().isEmpty());
+        assertTrue(lot.getSlot("A1").isAvailable());
+        assertTrue(lot.getSlot("A2").isAvailable());
+    }
+
+    private static PaymentMethod counting(AtomicInteger charges) {
+        return new PaymentMethod() {
+            @Override
+            public boolean processPayment(long amount) {
+                charges.incrementAndGet();
+                return true;
+            }
+
+            @Override
+            public String getPaymentType() {
+                return "Counting";
+            }
+        };
+    }
+
+    private static final class FailingJournal implements LotJournal {
+        @Override
+        public void recordPark(Ticket ticket, Vehicle vehicle) {
+            throw new IllegalStateException("journal offline");
+        }
+
+        @Override
+        public void recordExit(Ticket ticket) {
+            throw new IllegalStateException("journal offline");
+        }
+    }
+}
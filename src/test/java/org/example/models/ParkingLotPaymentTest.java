@@ -0,0 +1,101 @@
+package org.example.models;
+
+import org.example.enums.SlotType;
+import org.example.events.EventSink;
+import org.example.models.vehicle.Car;
+import org.example.payment.AsyncPaymentProcessor;
+import org.example.payment.CashPayment;
+import org.example.payment.PaymentMethod;
+import org.example.payment.PaymentResult;
+import org.example.strategy.allocation.NearestSlotStrategy;
+import org.example.strategy.pricing.FlatPricingStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParkingLotPaymentTest {
+
+    @Test
+    void throwingPaymentMethodReleasesTheExitLock() {
+        ParkingLot lot = newLot();
+        Ticket ticket = lot.parkVehicle(new Car("THROW-1"));
+        PaymentMethod broken = new PaymentMethod() {
+            @Override
+            public boolean processPayment(long amount) {
+                throw new IllegalStateException("processor offline");
+            }
+
+            @Override
+            public String getPaymentType() {
+                return "Broken";
+            }
+        };
+
+        assertEquals(ExitResult.Status.PAYMENT_FAILED, lot.tryExit(ticket.getId(), broken).status());
+        assertNotNull(lot.getTicket(ticket.getId()));
+        assertEquals(0, ticket.getExitTimeMillis());
+
+        assertEquals(ExitResult.Status.EXITED,
+                lot.tryExit(ticket.getId(), new CashPayment(EventSink.noOp())).status());
+        assertTrue(lot.getSlot("A1").isAvailable());
+    }
+
+    @Test
+    void timedOutPaymentKeepsTheTicketLockedUntilItSettles() throws Exception {
+        ParkingLot lot = newLot();
+        Ticket ticket = lot.parkVehicle(new Car("SLOW-1"));
+        AtomicInteger charges = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        PaymentMethod slow = new PaymentMethod() {
+            @Override
+            public boolean processPayment(long amount) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                charges.incrementAndGet();
+                return true;
+            }
+
+            @Override
+            public String getPaymentType() {
+                return "Slow";
+            }
+        };
+
+        try (AsyncPaymentProcessor processor = new AsyncPaymentProcessor(Duration.ofMillis(20))) {
+            PaymentResult result = lot.exitVehicleAsync(ticket.getId(), slow, processor).get(5, TimeUnit.SECONDS);
+            assertEquals(PaymentResult.Status.TIMED_OUT, result.status());
+            assertNotNull(lot.getTicket(ticket.getId()));
+            assertEquals(ExitResult.Status.EXIT_IN_PROGRESS,
+                    lot.tryExit(ticket.getId(), new CashPayment(EventSink.noOp())).status());
+
+            release.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (lot.getTicket(ticket.getId()) != null && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+        }
+        assertNull(lot.getTicket(ticket.getId()));
+        assertTrue(ticket.isPaid());
+        assertTrue(lot.getSlot("A1").isAvailable());
+        assertEquals(1, charges.get());
+    }
+
+    static ParkingLot newLot() {
+        ParkingLot lot = new ParkingLot("Payment Lot", new NearestSlotStrategy(), new FlatPricingStrategy());
+        lot.setEventSink(EventSink.noOp());
+        lot.addSlot(new ParkingSlot("A1", SlotType.CAR, 1, false));
+        lot.addSlot(new ParkingSlot("A2", SlotType.CAR, 1, false));
+        return lot;
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.models;
+
+import org.example.enums.SlotType;
+import org.example.events.EventSink;
+import org.example.models.vehicle.Car;
+import org.example.payment.CashPayment;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParkingLotReservationTest {
+
+    @Test
+    void duplicatePlateLeavesTheReservationHeld() {
+        ParkingLot lot = ParkingLotPaymentTest.newLot();
+        Reservation reservation = lot.reserve(SlotType.CAR, false, Duration.ofMinutes(5));
+        lot.parkVehicle(new Car("DUP-1"));
+
+        ParkResult result = lot.parkReserved(reservation.getId(), new Car("DUP-1"));
+        assertEquals(ParkResult.Status.DUPLICATE_ENTRY, result.status());
+        assertSame(reservation, lot.getReservation(reservation.getId()));
+        assertTrue(reservation.getSlot().isHeld());
+
+        assertEquals(ParkResult.Status.PARKED, lot.parkReserved(reservation.getId(), new Car("OWNER-1")).status());
+    }
+
+    @Test
+    void racingDuplicatePlateNeverConsumesTheReservation() throws Exception {
+        ParkingLot lot = ParkingLotPaymentTest.newLot();
+        CyclicBarrier start = new CyclicBarrier(2);
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            for (int round = 0; round < 2_000; round++) {
+                Reservation reservation = lot.reserve(SlotType.CAR, false, Duration.ofMinutes(5));
+                String plate = "RACE-" + round;
+                CompletableFuture<ParkResult> walkIn = CompletableFuture.supplyAsync(() -> {
+                    await(start);
+                    return lot.tryPark(new Car(plate));
+                }, executor);
+                CompletableFuture<ParkResult> reserved = CompletableFuture.supplyAsync(() -> {
+                    await(start);
+                    return lot.parkReserved(reservation.getId(), new Car(plate));
+                }, executor);
+
+                ParkResult walkInResult = walkIn.join();
+                ParkResult reservedResult = reserved.join();
+                Ticket ticket = lot.findTicketByPlate(plate);
+                assertNotNull(ticket, "round " + round);
+                if (reservedResult.status() == ParkResult.Status.PARKED) {
+                    assertEquals(ParkResult.Status.DUPLICATE_ENTRY, walkInResult.status(), "round " + round);
+                } else {
+                    assertEquals(ParkResult.Status.DUPLICATE_ENTRY, reservedResult.status(), "round " + round);
+                    assertTrue(reservation.getSlot().isHeld(), "round " + round);
+                    assertTrue(lot.cancelReservation(reservation.getId()), "round " + round);
+                }
+                lot.exitVehicle(ticket.getId(), new CashPayment(EventSink.noOp()));
+            }
+        }
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.models;
+
+import org.example.enums.SlotType;
+import org.example.events.EventSink;
+import org.example.models.vehicle.Car;
+import org.example.payment.CashPayment;
+import org.example.strategy.allocation.NearestSlotStrategy;
+import org.example.strategy.pricing.FlatPricingStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PlateIndexTest {
+    private static final int GATES = 4;
+    private static final int PLATES = 200;
+
+    @Test
+    void lookupsFollowParkAndExit() {
+        ParkingLot lot = newLot(10);
+        Ticket ticket = lot.parkVehicle(new Car("AB-1"));
+        assertSame(ticket, lot.findTicketByPlate("AB-1"));
+        assertSame(lot.getSlot(ticket.getSlotId()), lot.findSlotByPlate("AB-1"));
+
+        lot.exitVehicle(ticket.getId(), new CashPayment(EventSink.noOp()));
+        assertNull(lot.findTicketByPlate("AB-1"));
+        assertNull(lot.findSlotByPlate("AB-1"));
+        assertEquals(ParkResult.Status.PARKED, lot.tryPark(new Car("AB-1")).status());
+    }
+
+    @Test
+    void aPlateParksOnceAcrossEveryEntryPath() {
+        ParkingLot lot = newLot(10);
+        lot.parkVehicle(new Car("AB-1"));
+
+        assertEquals(ParkResult.Status.DUPLICATE_ENTRY, lot.tryPark(new Car("AB-1")).status());
+        List<ParkResult> batch = lot.parkVehicles(List.of(new Car("X-1"), new Car("X-1"), new Car("AB-1")));
+        assertEquals(ParkResult.Status.PARKED, batch.get(0).status());
+        assertEquals(ParkResult.Status.DUPLICATE_ENTRY, batch.get(1).status());
+        assertEquals(ParkResult.Status.DUPLICATE_ENTRY, batch.get(2).status());
+        assertEquals(2, lot.getActiveTickets().size());
+    }
+
+    @Test
+    void racingGatesParkEachPlateOnce() throws Exception {
+        ParkingLot lot = newLot(PLATES * 2);
+        AtomicInteger parked = new AtomicInteger();
+        try (ExecutorService gates = Executors.newFixedThreadPool(GATES)) {
+            List<CompletableFuture<Void>> runs = new ArrayList<>();
+            for (int g = 0; g < GATES; g++) {
+                runs.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < PLATES; i++) {
+                        if (lot.tryPark(new Car("R-" + i)).isParked()) {
+                            parked.incrementAndGet();
+                        }
+                    }
+                }, gates));
+            }
+            runs.forEach(CompletableFuture::join);
+        }
+        assertEquals(PLATES, parked.get());
+        assertEquals(PLATES, lot.getActiveTickets().size());
+        assertEquals(PLATES, lot.getAvailability().slotType(SlotType.CAR).occupied());
+    }
+
+    private static ParkingLot newLot(int slots) {
+        ParkingLot lot = new ParkingLot("Plate Lot", new NearestSlotStrategy(), new FlatPricingStrategy());
+        lot.setEventSink(EventSink.noOp());
+        for (int i = 0; i < slots; i++) {
+            lot.addSlot(new ParkingSlot("S" + i, SlotType.CAR, 1, false));
+        }
+        return lot;
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.models;
+
+import org.example.enums.SlotType;
+import org.example.events.EventSink;
+import org.example.models.vehicle.Car;
+import org.example.models.vehicle.ElectricCar;
+import org.example.models.vehicle.Motorcycle;
+import org.example.models.vehicle.Truck;
+import org.example.models.vehicle.Vehicle;
+import org.example.strategy.allocation.RandomSlotStrategy;
+import org.example.strategy.pricing.FlatPricingStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SlotQueryTest {
+    private static final Integer[] FLOORS = {null, -1, 0, 3, 7};
+    private static final SlotType[] TYPES = {null, SlotType.CAR, SlotType.TRUCK};
+    private static final Boolean[] CHARGING = {null, true, false};
+    private static final SlotQuery.State[] STATES = {null, SlotQuery.State.AVAILABLE, SlotQuery.State.OCCUPIED,
+            SlotQuery.State.HELD};
+
+    @Test
+    void filtersMatchAFullScan() {
+        ParkingLot lot = randomLot(new Random(5));
+        List<ParkingSlot> all = lot.getSlots();
+        for (Integer floor : FLOORS) {
+            for (SlotType type : TYPES) {
+                for (Boolean charging : CHARGING) {
+                    for (SlotQuery.State state : STATES) {
+                        SlotQuery query = lot.querySlots();
+                        if (floor != null) {
+                            query.onFloor(floor);
+                        }
+                        if (type != null) {
+                            query.ofType(type);
+                        }
+                        if (charging != null) {
+                            query.withCharging(charging);
+                        }
+                        if (state != null) {
+                            query.in(state);
+                        }
+                        Predicate<ParkingSlot> expected = slot -> (floor == null || slot.getFloor() == floor)
+                                && (type == null || slot.getType() == type)
+                                && (charging == null || slot.hasChargingStation() == charging)
+                                && (state == null || inState(slot, state));
+                        assertSameMatches(all, expected, query, floor + " " + type + " " + charging + " " + state);
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean inState(ParkingSlot slot, SlotQuery.State state) {
+        switch (state) {
+            case AVAILABLE:
+                return slot.isAvailable();
+            case OCCUPIED:
+                return slot.isOccupied();
+            default:
+                return slot.isHeld();
+        }
+    }
+
+    private static void assertSameMatches(List<ParkingSlot> all, Predicate<ParkingSlot> expected, SlotQuery query,
+                                          String filter) {
+        Set<ParkingSlot> scanned = new HashSet<>();
+        for (ParkingSlot slot : all) {
+            if (expected.test(slot)) {
+                scanned.add(slot);
+            }
+        }
+        Set<ParkingSlot> visited = new HashSet<>();
+        query.forEach(visited::add);
+        Set<ParkingSlot> streamed = new HashSet<>();
+        query.stream().forEach(streamed::add);
+        assertEquals(scanned, visited, filter);
+        assertEquals(scanned, streamed, filter);
+        assertEquals(scanned.size(), query.count(), filter);
+    }
+
+    @Test
+    void viewsAreReadOnly() {
+        ParkingLot lot = randomLot(new Random(7));
+        List<ParkingSlot> slots = lot.getSlots();
+        Map<String, Ticket> tickets = lot.getActiveTickets();
+        Collection<Ticket> values = lot.getTickets();
+        Ticket ticket = values.iterator().next();
+
+        assertThrows(UnsupportedOperationException.class, () -> slots.add(slots.get(0)));
+        assertThrows(UnsupportedOperationException.class, () -> slots.set(0, null));
+        assertThrows(UnsupportedOperationException.class, () -> tickets.remove(ticket.getTicketId()));
+        assertThrows(UnsupportedOperationException.class, () -> tickets.put("TICKET-X", ticket));
+        assertThrows(UnsupportedOperationException.class, values::clear);
+        assertThrows(UnsupportedOperationException.class, () -> tickets.entrySet().iterator().next().setValue(null));
+
+        assertSame(ticket, tickets.get(ticket.getTicketId()));
+        assertNull(tickets.get("not-a-ticket"));
+        assertEquals(values.size(), tickets.size());
+        assertEquals(values.size(), tickets.entrySet().stream().count());
+    }
+
+    @Test
+    void slotViewIsASnapshot() {
+        ParkingLot lot = randomLot(new Random(9));
+        List<ParkingSlot> before = lot.getSlots();
+        int size = before.size();
+        lot.addSlot(new ParkingSlot("LATE-1", SlotType.CAR, 1, false));
+        assertEquals(size, before.size());
+        assertEquals(size + 1, lot.getSlots().size());
+    }
+
+    private static ParkingLot randomLot(Random random) {
+        ParkingLot lot = new ParkingLot("Query Lot", new RandomSlotStrategy(), new FlatPricingStrategy());
+        lot.setEventSink(EventSink.noOp());
+        SlotType[] types = SlotType.values();
+        for (int i = 0; i < 2000; i++) {
+            lot.addSlot(new ParkingSlot("S" + i, types[random.nextInt(types.length)], random.nextInt(6) - 1,
+                    random.nextInt(4) == 0));
+        }
+        for (int i = 0; i < 1200; i++) {
+            lot.tryPark(randomVehicle(random, i));
+        }
+        for (int i = 0; i < 50; i++) {
+            lot.reserve(types[random.nextInt(types.length)], random.nextBoolean(), Duration.ofMinutes(5));
+        }
+        return lot;
+    }
+
+    private static Vehicle randomVehicle(Random random, int i) {
+        switch (random.nextInt(4)) {
+            case 0:
+                return new Car("C" + i);
+            case 1:
+                return new Motorcycle("M" + i);
+            case 2:
+                return new Truck("T" + i);
+            default:
+                return new ElectricCar("E" + i);
+        }
+    }
+}
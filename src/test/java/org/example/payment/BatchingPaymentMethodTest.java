@@ -0,0 +1,49 @@
+package org.example.payment;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchingPaymentMethodTest {
+
+    @Test
+    void settlesConcurrentPaymentsInBatches() {
+        try (BatchingPaymentMethod batching = new BatchingPaymentMethod(
+                new SimulatedLatencyPayment(Duration.ofMillis(5)), 16, Duration.ofMillis(2));
+             ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> batching.processPayment(100), callers));
+            }
+            results.forEach(result -> assertTrue(result.join()));
+        }
+    }
+
+    @RepeatedTest(20)
+    void closeNeverLeavesACallerWaiting() throws Exception {
+        BatchingPaymentMethod batching = new BatchingPaymentMethod(
+                new SimulatedLatencyPayment(Duration.ofMillis(1)), 8, Duration.ofMillis(5));
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+        for (int i = 0; i < 500; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> batching.processPayment(100), callers));
+            if (i == 250) {
+                batching.close();
+            }
+        }
+        CompletableFuture<Void> all = CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0]));
+        all.handle((ignored, e) -> null).get(10, TimeUnit.SECONDS);
+        callers.close();
+        assertThrows(IllegalStateException.class, () -> batching.processPayment(100));
+    }
+}
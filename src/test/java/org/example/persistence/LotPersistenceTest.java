@@ -0,0 +1,221 @@
+package org.example.persistence;
+
+import org.example.enums.SlotType;
+import org.example.events.EventSink;
+import org.example.events.EventType;
+import org.example.models.ParkingLot;
+import org.example.models.ParkingSlot;
+import org.example.models.Ticket;
+import org.example.models.vehicle.Car;
+import org.example.models.vehicle.Vehicle;
+import org.example.payment.CashPayment;
+import org.example.strategy.allocation.NearestSlotStrategy;
+import org.example.strategy.pricing.FlatPricingStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LotPersistenceTest {
+    private static final long ENTRY_MILLIS = 1_780_000_000_000L;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoversActiveTicketsAfterParksAndExits() throws Exception {
+        JournalConfig config = JournalConfig.defaults(directory).withFsync(false);
+        ParkingLot lot = newLot();
+        Ticket kept;
+        try (LotPersistence persistence = LotPersistence.open(lot, config)) {
+            kept = lot.parkVehicle(new Car("KEPT"));
+            Ticket left = lot.parkVehicle(new Car("LEFT"));
+            lot.exitVehicle(left.getId(), new CashPayment(EventSink.noOp()));
+            persistence.sync();
+        }
+
+        ParkingLot recovered = newLot();
+        try (LotPersistence persistence = LotPersistence.open(recovered, config)) {
+            assertEquals(1, recovered.getTickets().size());
+            assertNotNull(recovered.getTicket(kept.getId()));
+            assertEquals("KEPT", recovered.getSlot(kept.getSlotId()).getParkedVehicle().getLicensePlate());
+            assertNull(recovered.findTicketByPlate("LEFT"));
+        }
+    }
+
+    @Test
+    void parkJournaledBeforeThePreviousExitWaitsForIt() throws Exception {
+        JournalConfig config = JournalConfig.defaults(directory).withFsync(false);
+        Ticket first = ticket(1, "FIRST");
+        Ticket second = ticket(2, "SECOND");
+        try (FileJournal journal = new FileJournal(config, 0)) {
+            journal.recordPark(first, new Car("FIRST"));
+            journal.recordPark(second, new Car("SECOND"));
+            journal.recordExit(exited(first));
+        }
+
+        ParkingLot lot = newLot();
+        try (LotPersistence persistence = LotPersistence.open(lot, config)) {
+            assertNull(lot.getTicket(first.getId()));
+            assertNotNull(lot.getTicket(second.getId()));
+            assertEquals("SECOND", lot.getSlot("A1").getParkedVehicle().getLicensePlate());
+        }
+    }
+
+    @Test
+    void waitingParkThatAlsoExitedLeavesTheSlotFree() throws Exception {
+        JournalConfig config = JournalConfig.defaults(directory).withFsync(false);
+        Ticket first = ticket(1, "FIRST");
+        Ticket second = ticket(2, "SECOND");
+        try (FileJournal journal = new FileJournal(config, 0)) {
+            journal.recordPark(first, new Car("FIRST"));
+            journal.recordPark(second, new Car("SECOND"));
+            journal.recordExit(exited(second));
+            journal.recordExit(exited(first));
+        }
+
+        ParkingLot lot = newLot();
+        try (LotPersistence persistence = LotPersistence.open(lot, config)) {
+            assertTrue(lot.getTickets().isEmpty());
+            assertTrue(lot.getSlot("A1").isAvailable());
+        }
+    }
+
+    @Test
+    void laterParkWinsWhenThePreviousExitWasLost() throws Exception {
+        JournalConfig config = JournalConfig.defaults(directory).withFsync(false);
+        Ticket first = ticket(1, "FIRST");
+        Ticket second = ticket(2, "SECOND");
+        try (FileJournal journal = new FileJournal(config, 0)) {
+            journal.recordPark(first, new Car("FIRST"));
+            journal.recordPark(second, new Car("SECOND"));
+        }
+
+        ParkingLot lot = newLot();
+        List<Long> warnings = new ArrayList<>();
+        lot.setEventSink(EventSink.direct(event -> {
+            if (event.getType() == EventType.PERSISTENCE_WARNING) {
+                warnings.add(event.getTicketId());
+            }
+        }));
+        try (LotPersistence persistence = LotPersistence.open(lot, config)) {
+            assertEquals(1, lot.getTickets().size());
+            assertNotNull(lot.getTicket(second.getId()));
+            assertNull(lot.findTicketByPlate("FIRST"));
+            Vehicle parked = lot.getSlot("A1").getParkedVehicle();
+            assertEquals("SECOND", parked.getLicensePlate());
+        }
+        assertEquals(List.of(first.getId()), warnings);
+    }
+
+    @Test
+    void replayStopsAtACorruptRecord() throws Exception {
+        JournalConfig config = JournalConfig.defaults(directory).withFsync(false);
+        try (FileJournal journal = new FileJournal(config, 0)) {
+            journal.recordPark(ticket(1, "FIRST"), new Car("FIRST"));
+            journal.recordPark(ticket(2, "SECOND"), new Car("SECOND"));
+            journal.roll();
+            journal.recordPark(ticket(3, "THIRD"), new Car("THIRD"));
+        }
+        Path first = segments().get(0);
+        byte[] bytes = Files.readAllBytes(first);
+        bytes[bytes.length - 3] ^= 0x5A;
+        Files.write(first, bytes);
+
+        List<Long> replayed = new ArrayList<>();
+        assertEquals(1, FileJournal.replay(directory, 0, record -> replayed.add(record.ticketId())));
+        assertEquals(List.of(1L), replayed);
+    }
+
+    @Test
+    void replayContinuesPastATornTailTheRestartRewrote() throws Exception {
+        JournalConfig config = JournalConfig.defaults(directory).withFsync(false);
+        try (FileJournal journal = new FileJournal(config, 0)) {
+            journal.recordPark(ticket(1, "FIRST"), new Car("FIRST"));
+            journal.recordPark(ticket(2, "SECOND"), new Car("SECOND"));
+        }
+        Path torn = segments().get(0);
+        try (FileChannel channel = FileChannel.open(torn, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+        try (FileJournal journal = new FileJournal(config, 1)) {
+            journal.recordPark(ticket(3, "THIRD"), new Car("THIRD"));
+            journal.recordPark(ticket(4, "FOURTH"), new Car("FOURTH"));
+        }
+
+        List<Long> replayed = new ArrayList<>();
+        assertEquals(3, FileJournal.replay(directory, 0, record -> replayed.add(record.ticketId())));
+        assertEquals(List.of(1L, 3L, 4L), replayed);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("journal-")).sorted().toList();
+        }
+    }
+
+    @Test
+    void checkpointBetweenExitRecordAndReleaseDropsTheTicket() throws Exception {
+        JournalConfig config = JournalConfig.defaults(directory).withFsync(false);
+        ParkingLot lot = newLot();
+        Ticket left;
+        try (LotPersistence persistence = LotPersistence.open(lot, config)) {
+            FileJournal journal = persistence.journal();
+            lot.setJournal(new LotJournal() {
+                @Override
+                public void recordPark(Ticket ticket, Vehicle vehicle) {
+                    journal.recordPark(ticket, vehicle);
+                }
+
+                @Override
+                public void recordExit(Ticket ticket) {
+                    journal.recordExit(ticket);
+                    try {
+                        persistence.checkpoint();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+            left = lot.parkVehicle(new Car("LEFT"));
+            lot.exitVehicle(left.getId(), new CashPayment(EventSink.noOp()));
+            persistence.sync();
+        }
+
+        ParkingLot recovered = newLot();
+        try (LotPersistence persistence = LotPersistence.open(recovered, config)) {
+            assertNull(recovered.getTicket(left.getId()));
+            assertTrue(recovered.getSlot(left.getSlotId()).isAvailable());
+        }
+    }
+
+    private static Ticket ticket(long id, String plate) {
+        return new Ticket(id, plate, "A1", ENTRY_MILLIS + id);
+    }
+
+    private static Ticket exited(Ticket ticket) {
+        ticket.setExitTimeMillis(ticket.getEntryTimeMillis() + 60_000);
+        return ticket;
+    }
+
+    private static ParkingLot newLot() {
+        ParkingLot lot = new ParkingLot("Journal Lot", new NearestSlotStrategy(), new FlatPricingStrategy());
+        lot.setEventSink(EventSink.noOp());
+        lot.addSlot(new ParkingSlot("A1", SlotType.CAR, 1, false));
+        lot.addSlot(new ParkingSlot("A2", SlotType.CAR, 1, false));
+        return lot;
+    }
+}
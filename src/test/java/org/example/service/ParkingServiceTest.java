@@ -0,0 +1,141 @@
+package org.example.service;
+
+import org.example.enums.SlotType;
+import org.example.events.EventSink;
+import org.example.models.ParkingLot;
+import org.example.models.ParkingSlot;
+import org.example.models.Ticket;
+import org.example.models.vehicle.Car;
+import org.example.payment.CashPayment;
+import org.example.payment.PaymentMethod;
+import org.example.strategy.allocation.NearestSlotStrategy;
+import org.example.strategy.pricing.FlatPricingStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParkingServiceTest {
+    private ParkingService service;
+    private ParkingLot north;
+    private ParkingLot south;
+
+    @BeforeEach
+    void setUp() {
+        service = new ParkingService(2);
+        north = createLot("North", new LotLocation(0, 0));
+        south = createLot("South", new LotLocation(1, 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    void aPlateIsParkedInOneLotAtATime() throws Exception {
+        Ticket ticket = get(service.parkVehicle(1, new Car("DUP-1")));
+        assertSame(ticket, service.findTicketByPlate("DUP-1"));
+
+        ExecutionException duplicate = assertThrows(ExecutionException.class,
+                () -> get(service.parkVehicle(2, new Car("DUP-1"))));
+        assertInstanceOf(IllegalStateException.class, duplicate.getCause());
+        assertNull(south.findTicketByPlate("DUP-1"));
+
+        get(service.exitVehicle(ticket.getId(), new CashPayment(EventSink.noOp())));
+        assertNull(service.findTicketByPlate("DUP-1"));
+        Ticket again = get(service.parkVehicle(2, new Car("DUP-1")));
+        assertSame(south, service.lotForTicket(again.getId()));
+    }
+
+    @Test
+    void rejectedParkReleasesThePlate() throws Exception {
+        get(service.parkVehicle(1, new Car("FILL-1")));
+        get(service.parkVehicle(2, new Car("FILL-2")));
+        assertThrows(ExecutionException.class, () -> get(service.parkVehicle(1, new Car("LATE-1"))));
+        assertNull(service.findTicketByPlate("LATE-1"));
+
+        Ticket north1 = north.findTicketByPlate("FILL-1");
+        get(service.exitVehicle(north1.getId(), new CashPayment(EventSink.noOp())));
+        get(service.refreshSummaries());
+        assertEquals("North", service.lotForTicket(get(service.parkVehicle(1, new Car("LATE-1"))).getId()).getName());
+    }
+
+    @Test
+    void malformedTicketIdFailsTheFuture() {
+        CompletableFuture<Long> exit = service.exitVehicle("not-a-ticket", new CashPayment(EventSink.noOp()));
+        assertTrue(exit.isCompletedExceptionally());
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> get(exit));
+        assertInstanceOf(IllegalArgumentException.class, failure.getCause());
+    }
+
+    @Test
+    void unknownLotFailsTheFuture() {
+        CompletableFuture<Ticket> park = service.parkVehicle(99, new Car("LOST-1"));
+        assertTrue(park.isCompletedExceptionally());
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> get(park));
+        assertInstanceOf(IllegalArgumentException.class, failure.getCause());
+        assertNull(service.findTicketByPlate("LOST-1"));
+    }
+
+    @Test
+    void slowPaymentDoesNotHoldTheLotWorker() throws Exception {
+        Ticket ticket = get(service.parkVehicle(1, new Car("SLOW-1")));
+        CountDownLatch paying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        String[] payer = new String[1];
+        PaymentMethod slow = new PaymentMethod() {
+            @Override
+            public boolean processPayment(long amount) {
+                payer[0] = Thread.currentThread().getName();
+                paying.countDown();
+                try {
+                    return release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+
+            @Override
+            public String getPaymentType() {
+                return "Slow";
+            }
+        };
+
+        CompletableFuture<Long> exit = service.exitVehicle(ticket.getId(), slow);
+        assertTrue(paying.await(5, TimeUnit.SECONDS));
+        Ticket overflow = get(service.parkVehicle(1, new Car("NEXT-1")));
+        assertSame(south, service.lotForTicket(overflow.getId()));
+        assertFalse(exit.isDone());
+
+        release.countDown();
+        assertEquals(ticket.getAmount(), get(exit));
+        assertFalse(payer[0].startsWith("lot-worker-"));
+        assertNull(service.findTicketByPlate("SLOW-1"));
+        assertTrue(north.getSlot("North-1").isAvailable());
+    }
+
+    private ParkingLot createLot(String name, LotLocation location) {
+        ParkingLot lot = service.createLot(name, new NearestSlotStrategy(), new FlatPricingStrategy(), location);
+        lot.setEventSink(EventSink.noOp());
+        lot.addSlot(new ParkingSlot(name + "-1", SlotType.CAR, 1, false));
+        return lot;
+    }
+
+    private static <T> T get(CompletableFuture<T> future) throws Exception {
+        return future.get(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.strategy.allocation;
+
+import org.example.enums.SlotType;
+import org.example.enums.VehicleType;
+import org.example.events.EventSink;
+import org.example.models.ParkResult;
+import org.example.models.ParkingLot;
+import org.example.models.ParkingSlot;
+import org.example.models.vehicle.Car;
+import org.example.models.vehicle.ElectricCar;
+import org.example.models.vehicle.Motorcycle;
+import org.example.models.vehicle.Truck;
+import org.example.models.vehicle.Vehicle;
+import org.example.models.vehicle.VehicleFactory;
+import org.example.strategy.pricing.FlatPricingStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BestFitSlotStrategyTest {
+
+    @Test
+    void reserveHoldsSlotsBackFromOtherTypesOnly() {
+        ParkingLot lot = newLot(new BestFitSlotStrategy().withReserve(SlotType.TRUCK, false, 2));
+        for (int i = 1; i <= 3; i++) {
+            lot.addSlot(new ParkingSlot("T" + i, SlotType.TRUCK, 1, false));
+        }
+
+        assertEquals("T1", lot.parkVehicle(new Car("CAR-1")).getSlotId());
+        assertEquals(ParkResult.Status.NO_COMPATIBLE_SLOT, lot.tryPark(new Car("CAR-2")).status());
+        assertFalse(lot.tryPark(new Motorcycle("MOTO-1")).isParked());
+
+        assertEquals("T2", lot.parkVehicle(new Truck("TRUCK-1")).getSlotId());
+        assertEquals("T3", lot.parkVehicle(new Truck("TRUCK-2")).getSlotId());
+    }
+
+    @Test
+    void smallerClassesFillBeforeChargers() {
+        ParkingLot lot = newLot(new BestFitSlotStrategy()
+                .withReserve(SlotType.TRUCK, false, 1)
+                .withReserve(SlotType.CAR, true, 1));
+        lot.addSlot(new ParkingSlot("T1", SlotType.TRUCK, 1, false));
+        lot.addSlot(new ParkingSlot("T2", SlotType.TRUCK, 1, false));
+        lot.addSlot(new ParkingSlot("CC1", SlotType.CAR, 1, true));
+        lot.addSlot(new ParkingSlot("CC2", SlotType.CAR, 1, true));
+        lot.addSlot(new ParkingSlot("C1", SlotType.CAR, 2, false));
+        lot.addSlot(new ParkingSlot("M1", SlotType.MOTORCYCLE, 3, false));
+
+        assertEquals("M1", lot.parkVehicle(new Motorcycle("M-1")).getSlotId());
+        assertEquals("C1", lot.parkVehicle(new Motorcycle("M-2")).getSlotId());
+        assertEquals("T1", lot.parkVehicle(new Motorcycle("M-3")).getSlotId());
+        assertEquals("CC1", lot.parkVehicle(new Motorcycle("M-4")).getSlotId());
+        assertFalse(lot.tryPark(new Car("C-1")).isParked());
+        assertEquals("CC2", lot.parkVehicle(new ElectricCar("E-1")).getSlotId());
+        assertEquals("T2", lot.parkVehicle(new Truck("T-1")).getSlotId());
+    }
+
+    @Test
+    void batchSkipsAVehicleHeldBackByAReserve() {
+        ParkingLot lot = newLot(new BestFitSlotStrategy().withReserve(SlotType.TRUCK, false, 1));
+        lot.addSlot(new ParkingSlot("T1", SlotType.TRUCK, 1, false));
+
+        List<ParkResult> results = lot.parkVehicles(List.of(new Motorcycle("BM-1"), new Truck("BT-1")));
+        assertFalse(results.get(0).isParked());
+        assertTrue(results.get(1).isParked());
+    }
+
+    @Test
+    void listAndIndexLookupsAgree() {
+        Random random = new Random(3);
+        BestFitSlotStrategy strategy = new BestFitSlotStrategy().withReserve(SlotType.TRUCK, false, 3);
+        ParkingLot lot = newLot(strategy);
+        SlotType[] types = SlotType.values();
+        for (int i = 0; i < 300; i++) {
+            lot.addSlot(new ParkingSlot("S" + i, types[random.nextInt(types.length)], 1 + random.nextInt(3),
+                    random.nextInt(4) == 0));
+        }
+        VehicleType[] vehicleTypes = VehicleType.values();
+        for (int i = 0; i < 400; i++) {
+            Vehicle vehicle = VehicleFactory.create(vehicleTypes[random.nextInt(vehicleTypes.length)], "V" + i);
+            assertSame(strategy.findSlot(lot.getFreeSlots().allFreeSlots(), vehicle),
+                    strategy.findSlot(lot.getFreeSlots(), vehicle), "vehicle " + i);
+            lot.tryPark(vehicle);
+        }
+    }
+
+    private static ParkingLot newLot(BestFitSlotStrategy strategy) {
+        ParkingLot lot = new ParkingLot("Best Fit Lot", strategy, new FlatPricingStrategy());
+        lot.setEventSink(EventSink.noOp());
+        return lot;
+    }
+}
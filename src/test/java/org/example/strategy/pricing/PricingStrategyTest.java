@@ -0,0 +1,55 @@
+package org.example.strategy.pricing;
+
+import org.example.enums.SlotType;
+import org.example.models.ParkingSlot;
+import org.example.models.Ticket;
+import org.example.models.vehicle.Car;
+import org.example.models.vehicle.ElectricCar;
+import org.example.models.vehicle.Truck;
+import org.example.util.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PricingStrategyTest {
+    private static final long START = 1_000_000L;
+
+    @Test
+    void hourlyChargesWholeHoursWithAOneHourMinimum() {
+        PricingStrategy pricing = new HourlyPricingStrategy();
+        ParkingSlot carSlot = new ParkingSlot("C1", SlotType.CAR, 1, false);
+        ParkingSlot truckSlot = new ParkingSlot("T1", SlotType.TRUCK, 1, false);
+
+        assertEquals(Money.ofMajor(20.0), pricing.calculatePrice(stay(Duration.ofMinutes(10)), carSlot,
+                new Car("CAR-1")));
+        assertEquals(Money.ofMajor(60.0), pricing.calculatePrice(stay(Duration.ofMinutes(210)), carSlot,
+                new Car("CAR-1")));
+        assertEquals(Money.ofMajor(100.0), pricing.calculatePrice(stay(Duration.ofHours(2)), truckSlot,
+                new Car("CAR-1")));
+        assertEquals(Money.ofMajor(150.0), pricing.calculatePrice(stay(Duration.ofHours(3)), truckSlot,
+                new Truck("TRUCK-1")));
+    }
+
+    @Test
+    void chargingIsBilledByFlagOrByMeter() {
+        ParkingSlot charger = new ParkingSlot("EV1", SlotType.CAR, 1, true);
+        ElectricCar car = new ElectricCar("EV-1");
+        charger.parkVehicle(car);
+        Ticket ticket = stay(Duration.ofHours(2));
+
+        assertEquals(Money.ofMajor(125.0), new FlatPricingStrategy().calculatePrice(ticket, charger, car));
+        assertEquals(Money.ofMajor(50.0), new HourlyPricingStrategy().calculatePrice(ticket, charger, car));
+
+        ticket.setEnergyWh(12_345);
+        assertEquals(Money.ofMajor(100.0) + 494, new FlatPricingStrategy().calculatePrice(ticket, charger, car));
+        assertEquals(Money.ofMajor(40.0) + 494, new HourlyPricingStrategy().calculatePrice(ticket, charger, car));
+    }
+
+    private static Ticket stay(Duration duration) {
+        Ticket ticket = new Ticket(1, "PLATE-1", "S1", START);
+        ticket.setExitTimeMillis(START + duration.toMillis());
+        return ticket;
+    }
+}
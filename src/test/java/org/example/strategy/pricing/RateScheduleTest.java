@@ -0,0 +1,80 @@
+package org.example.strategy.pricing;
+
+import org.example.enums.SlotType;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateScheduleTest {
+    private static final Set<DayOfWeek> WEEKDAYS = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+
+    @Test
+    void bandedPriceMatchesAMinuteByMinuteWalk() {
+        Random random = new Random(3);
+        for (String zone : new String[] {"UTC", "Europe/London", "+05:30"}) {
+            RateSchedule schedule = RateSchedule.builder(ZoneId.of(zone))
+                    .baseRate(SlotType.CAR, 1000)
+                    .band(SlotType.CAR, WEEKDAYS, LocalTime.of(7, 0), LocalTime.of(10, 0), 2000)
+                    .band(SlotType.CAR, EnumSet.of(DayOfWeek.SUNDAY), LocalTime.of(22, 0), LocalTime.of(2, 0), 500)
+                    .band(SlotType.CAR, EnumSet.of(DayOfWeek.MONDAY), LocalTime.of(8, 0), LocalTime.of(8, 30), 9000)
+                    .build();
+            for (int i = 0; i < 1000; i++) {
+                long from = 1_700_000_000_000L + (long) (random.nextDouble() * 1e11);
+                long to = from + (long) (random.nextDouble() * (random.nextBoolean() ? 4e8 : 3e9));
+                long expected = walk(ZoneId.of(zone), from, to);
+                long actual = schedule.price(SlotType.CAR, from, to);
+                assertTrue(Math.abs(expected - actual) <= 1,
+                        zone + " " + from + ".." + to + ": expected " + expected + ", got " + actual);
+            }
+        }
+    }
+
+    private static long walk(ZoneId zone, long from, long to) {
+        ZoneOffset offset = zone.getRules().getOffset(Instant.ofEpochMilli(from));
+        long offsetMillis = offset.getTotalSeconds() * 1000L;
+        double cost = 0;
+        for (long t = from; t < to; ) {
+            long next = Math.min(to, (Math.floorDiv(t + offsetMillis, 60_000) + 1) * 60_000 - offsetMillis);
+            LocalDateTime local = LocalDateTime.ofEpochSecond(Math.floorDiv(t, 1000), 0, offset);
+            cost += rateAt(local.getDayOfWeek(), local.getHour() * 60 + local.getMinute()) * (double) (next - t);
+            t = next;
+        }
+        return Math.round(cost / 3.6e6);
+    }
+
+    private static long rateAt(DayOfWeek day, int minute) {
+        if (day == DayOfWeek.MONDAY && minute >= 480 && minute < 510) {
+            return 9000;
+        }
+        if (day == DayOfWeek.SUNDAY && minute >= 1320 || day == DayOfWeek.MONDAY && minute < 120) {
+            return 500;
+        }
+        if (WEEKDAYS.contains(day) && minute >= 420 && minute < 600) {
+            return 2000;
+        }
+        return 1000;
+    }
+
+    @Test
+    void surchargeUsesTheHighestThresholdReached() {
+        RateSchedule schedule = RateSchedule.builder(ZoneOffset.UTC)
+                .baseRate(SlotType.CAR, 1000)
+                .occupancySurcharge(0.8, 1.25)
+                .occupancySurcharge(0.95, 1.5)
+                .build();
+        assertEquals(1000, schedule.applySurcharge(1000, 0.5));
+        assertEquals(1250, schedule.applySurcharge(1000, 0.8));
+        assertEquals(1500, schedule.applySurcharge(1000, 0.99));
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.strategy.ticketid;
+
+import org.example.models.Ticket;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlockTicketIdGeneratorTest {
+    private static final long START = BlockTicketIdGenerator.EPOCH + 86_400_000L;
+
+    @Test
+    void idsRoundTripThroughTheDisplayForm() {
+        BlockTicketIdGenerator generator = new BlockTicketIdGenerator(BlockTicketIdGenerator.MAX_LOT_ID, 4, START);
+        List<Long> ids = new ArrayList<>(List.of(0L, 1L, Long.MAX_VALUE));
+        for (int i = 0; i < 100; i++) {
+            ids.add(generator.nextId());
+        }
+        for (long id : ids) {
+            String formatted = Ticket.formatId(id);
+            assertEquals(id, Ticket.parseId(formatted), formatted);
+            assertEquals(formatted, new Ticket(id, "RT-1", "A1", START).getTicketId());
+        }
+        assertEquals(BlockTicketIdGenerator.MAX_LOT_ID, BlockTicketIdGenerator.lotIdOf(ids.get(3)));
+    }
+
+    @Test
+    void malformedDisplayFormsAreRejected() {
+        for (String bad : new String[] {null, "", "TICKET-", "ticket-1", "TICKET-!", "7"}) {
+            assertThrows(IllegalArgumentException.class, () -> Ticket.parseId(bad), String.valueOf(bad));
+        }
+    }
+
+    @Test
+    void threadsAndLotsNeverShareAnId() throws Exception {
+        BlockTicketIdGenerator north = new BlockTicketIdGenerator(1, 16, START);
+        BlockTicketIdGenerator south = new BlockTicketIdGenerator(2, 16, START);
+        List<CompletableFuture<List<Long>>> runs = new ArrayList<>();
+        try (ExecutorService threads = Executors.newFixedThreadPool(4)) {
+            for (int t = 0; t < 4; t++) {
+                BlockTicketIdGenerator generator = t % 2 == 0 ? north : south;
+                runs.add(CompletableFuture.supplyAsync(() -> {
+                    List<Long> ids = new ArrayList<>();
+                    for (int i = 0; i < 10_000; i++) {
+                        ids.add(generator.nextId());
+                    }
+                    return ids;
+                }, threads));
+            }
+        }
+        Set<Long> seen = new HashSet<>();
+        for (int t = 0; t < runs.size(); t++) {
+            for (long id : runs.get(t).get()) {
+                assertTrue(seen.add(id), Ticket.formatId(id));
+                assertEquals(t % 2 == 0 ? 1 : 2, BlockTicketIdGenerator.lotIdOf(id));
+            }
+        }
+    }
+
+    @Test
+    void aRestartedGeneratorStartsPastTheEarlierIds() {
+        BlockTicketIdGenerator before = new BlockTicketIdGenerator(3, 256, START);
+        long last = 0;
+        for (int i = 0; i < 1000; i++) {
+            last = before.nextId();
+        }
+        assertTrue(new BlockTicketIdGenerator(3, 256, START + 1).nextId() > last);
+        assertThrows(IllegalArgumentException.class,
+                () -> new BlockTicketIdGenerator(BlockTicketIdGenerator.MAX_LOT_ID + 1, 4, START));
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    void rejectsWheelsTooLargeToAllocate() {
+        for (int bits : new int[] {0, 21, 31, 32, 40}) {
+            assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimingWheel<String>(1, bits, 1, 0),
+                    "bits " + bits);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimingWheel<String>(1, 6, 11, 0));
+        assertEquals(0, new HierarchicalTimingWheel<String>(1, 20, 1, 0).size());
+    }
+
+    @Test
+    void firesEachTimeoutOnceAtItsTick() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(10, 2, 3, 0);
+        long[] deadlines = {5, 10, 11, 39, 40, 41, 170, 640, 10_000};
+        for (long deadline : deadlines) {
+            wheel.schedule(deadline, deadline);
+        }
+        HierarchicalTimingWheel.Timeout<Long> cancelled = wheel.schedule(-1L, 200);
+        assertTrue(wheel.cancel(cancelled));
+        assertFalse(wheel.cancel(cancelled));
+
+        List<Long> fired = new ArrayList<>();
+        for (long now = 0; now <= 10_000; now += 10) {
+            long at = now;
+            wheel.advance(now, deadline -> {
+                assertTrue(deadline <= at && at - deadline < 10, deadline + " fired at " + at);
+                fired.add(deadline);
+            });
+        }
+        assertEquals(List.of(5L, 10L, 11L, 39L, 40L, 41L, 170L, 640L, 10_000L), fired);
+        assertEquals(0, wheel.size());
+    }
+}